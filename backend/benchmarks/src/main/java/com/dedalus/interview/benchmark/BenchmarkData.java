@@ -0,0 +1,89 @@
+package com.dedalus.interview.benchmark;
+
+import com.dedalus.interview.dto.DepartmentSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.entity.Department;
+import com.dedalus.interview.entity.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic data shared by the benchmarks, so runs on different commits see the same
+ * names, departments and value sizes.
+ */
+final class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {
+            "John", "Jane", "Bob", "Alice", "Charlie", "Diana", "Eve", "Frank", "Grace", "Henry",
+            "Irene", "Jack", "Karen", "Liam", "Mona", "Nathan", "Olivia", "Peter", "Quinn", "Rosa"};
+    private static final String[] LAST_NAMES = {
+            "Doe", "Smith", "Johnson", "Brown", "Wilson", "Davis", "Anderson", "Miller", "Taylor", "Thomas",
+            "Moore", "Martin", "Jackson", "White", "Harris", "Clark", "Lewis", "Walker", "Young", "King"};
+
+    private BenchmarkData() {
+    }
+
+    static String departmentName(int index) {
+        return "Department " + index;
+    }
+
+    static String fullName(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    static String email(int index) {
+        return "employee" + index + "@company.com";
+    }
+
+    static String phone(int index) {
+        return String.format("+1-555-%06d", index);
+    }
+
+    static String address(int index) {
+        return index + " Main St, Anytown, USA";
+    }
+
+    /** Builds {@code employeeCount} employees spread round-robin over {@code departmentCount} departments. */
+    static List<Department> departments(int departmentCount, int employeeCount) {
+        Random random = new Random(42);
+        List<Department> departments = new ArrayList<>(departmentCount);
+        for (int i = 0; i < departmentCount; i++) {
+            Department department = new Department(departmentName(i));
+            department.setId((long) i + 1);
+            departments.add(department);
+        }
+        for (int i = 0; i < employeeCount; i++) {
+            Employee employee = new Employee(fullName(random), address(i), phone(i), email(i));
+            employee.setId((long) i + 1);
+            departments.get(i % departmentCount).addEmployee(employee);
+        }
+        return departments;
+    }
+
+    static List<Employee> employees(List<Department> departments) {
+        List<Employee> employees = new ArrayList<>();
+        departments.forEach(department -> employees.addAll(department.getEmployees()));
+        return employees;
+    }
+
+    static List<EmployeeSummaryDto> employeeSummaries(int count) {
+        Random random = new Random(42);
+        List<EmployeeSummaryDto> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long departmentId = i % 20 + 1;
+            summaries.add(new EmployeeSummaryDto((long) i + 1, fullName(random), email(i), phone(i), address(i),
+                    departmentId, departmentName((int) departmentId)));
+        }
+        return summaries;
+    }
+
+    static List<DepartmentSummaryDto> departmentSummaries(int count) {
+        List<DepartmentSummaryDto> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            summaries.add(new DepartmentSummaryDto((long) i + 1, departmentName(i), i % 500));
+        }
+        return summaries;
+    }
+}
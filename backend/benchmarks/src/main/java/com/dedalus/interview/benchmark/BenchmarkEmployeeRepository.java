@@ -0,0 +1,22 @@
+package com.dedalus.interview.benchmark;
+
+import com.dedalus.interview.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs the application's {@link EmployeeRepository} queries on a plain Hibernate session instead of
+ * the Quarkus-managed one.
+ */
+final class BenchmarkEmployeeRepository extends EmployeeRepository {
+
+    private final EntityManager entityManager;
+
+    BenchmarkEmployeeRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+}
@@ -0,0 +1,47 @@
+package com.dedalus.interview.benchmark;
+
+import com.dedalus.interview.dto.DepartmentSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.entity.Department;
+import com.dedalus.interview.entity.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to summary DTO mapping, as done for every row returned by the list endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"10000"})
+    int employees;
+
+    @Param({"20"})
+    int departments;
+
+    private List<Department> departmentEntities;
+    private List<Employee> employeeEntities;
+
+    @Setup
+    public void setUp() {
+        departmentEntities = BenchmarkData.departments(departments, employees);
+        employeeEntities = BenchmarkData.employees(departmentEntities);
+    }
+
+    @Benchmark
+    public List<EmployeeSummaryDto> employeeSummaries() {
+        return employeeEntities.stream().map(EmployeeSummaryDto::new).toList();
+    }
+
+    @Benchmark
+    public List<DepartmentSummaryDto> departmentSummaries() {
+        return departmentEntities.stream().map(DepartmentSummaryDto::new).toList();
+    }
+}
@@ -0,0 +1,155 @@
+package com.dedalus.interview.benchmark;
+
+import com.dedalus.interview.dto.EmployeeCursor;
+import com.dedalus.interview.dto.EmployeePage;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto.Field;
+import com.dedalus.interview.entity.Department;
+import com.dedalus.interview.entity.Employee;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EmployeeRepository} list and search queries against an embedded H2 database migrated with
+ * the application's Flyway scripts and seeded with {@code employees} rows over {@code departments}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+    private static final int PAGE_SIZE = 50;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final Set<Field> NAMES_AND_DEPARTMENTS = EmployeeSummaryDto.parseFields("departmentName");
+
+    @Param({"10000"})
+    int employees;
+
+    @Param({"20"})
+    int departments;
+
+    @Param({"son"})
+    String search;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private BenchmarkEmployeeRepository repository;
+    private Long departmentId;
+    private EmployeeCursor middleCursor;
+
+    @Setup
+    public void setUp() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration").load().migrate();
+        seed();
+
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Department.class)
+                .addAnnotatedClass(Employee.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                .buildSessionFactory();
+        session = sessionFactory.openSession();
+        repository = new BenchmarkEmployeeRepository(session);
+
+        departmentId = session.createQuery("SELECT MIN(d.id) FROM Department d WHERE d.name LIKE 'Department %'", Long.class)
+                .getSingleResult();
+        List<EmployeeSummaryDto> all = repository.findAllSummaries(null, 0, EmployeeSummaryDto.ALL_FIELDS);
+        middleCursor = EmployeeCursor.of(all.get(all.size() / 2));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        session.close();
+        sessionFactory.close();
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            connection.createStatement().execute("DROP ALL OBJECTS");
+        }
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO departments (name) VALUES (?)")) {
+                for (int i = 0; i < departments; i++) {
+                    insert.setString(1, BenchmarkData.departmentName(i));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO employees (full_name, address, phone, email, department_id) " +
+                    "SELECT ?, ?, ?, ?, id FROM departments WHERE name = ?")) {
+                Random random = new Random(42);
+                for (int i = 0; i < employees; i++) {
+                    insert.setString(1, BenchmarkData.fullName(random));
+                    insert.setString(2, BenchmarkData.address(i));
+                    insert.setString(3, BenchmarkData.phone(i));
+                    insert.setString(4, BenchmarkData.email(i));
+                    insert.setString(5, BenchmarkData.departmentName(i % departments));
+                    insert.addBatch();
+                    if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeSummaryDto> listFirstPage() {
+        return repository.findAllSummaries(null, EmployeePage.fetchSize(PAGE_SIZE), EmployeeSummaryDto.ALL_FIELDS);
+    }
+
+    @Benchmark
+    public List<EmployeeSummaryDto> listMiddlePage() {
+        return repository.findAllSummaries(middleCursor, EmployeePage.fetchSize(PAGE_SIZE), EmployeeSummaryDto.ALL_FIELDS);
+    }
+
+    @Benchmark
+    public List<EmployeeSummaryDto> listAll() {
+        return repository.findAllSummaries(null, 0, EmployeeSummaryDto.ALL_FIELDS);
+    }
+
+    /** The dashboard list: names and departments only, via {@code fields=departmentName}. */
+    @Benchmark
+    public List<EmployeeSummaryDto> listAllNamesAndDepartments() {
+        return repository.findAllSummaries(null, 0, NAMES_AND_DEPARTMENTS);
+    }
+
+    @Benchmark
+    public List<EmployeeSummaryDto> departmentFirstPage() {
+        return repository.findSummariesByDepartmentId(departmentId, null, EmployeePage.fetchSize(PAGE_SIZE), EmployeeSummaryDto.ALL_FIELDS);
+    }
+
+    @Benchmark
+    public List<EmployeeSummaryDto> searchByName() {
+        return repository.findSummariesByFullNameContainingIgnoreCase(search, null, EmployeePage.fetchSize(PAGE_SIZE), EmployeeSummaryDto.ALL_FIELDS);
+    }
+
+    @Benchmark
+    public List<EmployeeSummaryDto> searchInDepartment() {
+        return repository.findSummariesByDepartmentIdAndFullNameContainingIgnoreCase(
+                departmentId, search, null, EmployeePage.fetchSize(PAGE_SIZE), EmployeeSummaryDto.ALL_FIELDS);
+    }
+}
@@ -0,0 +1,77 @@
+package com.dedalus.interview.benchmark;
+
+import com.dedalus.interview.config.JacksonConfig;
+import com.dedalus.interview.dto.DepartmentSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson encoding and decoding of summary lists, i.e. the response body cost of the list
+ * endpoints on both sides, as JSON or as the CBOR served to clients sending
+ * {@code Accept: application/cbor}. Encoded sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final TypeReference<List<EmployeeSummaryDto>> EMPLOYEE_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<DepartmentSummaryDto>> DEPARTMENT_LIST = new TypeReference<>() {};
+
+    @Param({"10000", "100000"})
+    int size;
+
+    @Param({"json", "cbor"})
+    String format;
+
+    private ObjectMapper objectMapper;
+
+    private List<EmployeeSummaryDto> employeeSummaries;
+    private List<DepartmentSummaryDto> departmentSummaries;
+    private byte[] encodedEmployees;
+    private byte[] encodedDepartments;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+        new JacksonConfig().customize(jsonMapper);
+        objectMapper = "cbor".equals(format) ? jsonMapper.copyWith(new CBORFactory()) : jsonMapper;
+
+        employeeSummaries = BenchmarkData.employeeSummaries(size);
+        departmentSummaries = BenchmarkData.departmentSummaries(size);
+        encodedEmployees = objectMapper.writeValueAsBytes(employeeSummaries);
+        encodedDepartments = objectMapper.writeValueAsBytes(departmentSummaries);
+        System.out.printf("%n%s, %d rows: employees %d bytes, departments %d bytes%n",
+                format, size, encodedEmployees.length, encodedDepartments.length);
+    }
+
+    @Benchmark
+    public byte[] employeeSummaries() throws IOException {
+        return objectMapper.writeValueAsBytes(employeeSummaries);
+    }
+
+    @Benchmark
+    public byte[] departmentSummaries() throws IOException {
+        return objectMapper.writeValueAsBytes(departmentSummaries);
+    }
+
+    @Benchmark
+    public List<EmployeeSummaryDto> decodeEmployeeSummaries() throws IOException {
+        return objectMapper.readValue(encodedEmployees, EMPLOYEE_LIST);
+    }
+
+    @Benchmark
+    public List<DepartmentSummaryDto> decodeDepartmentSummaries() throws IOException {
+        return objectMapper.readValue(encodedDepartments, DEPARTMENT_LIST);
+    }
+}
@@ -0,0 +1,247 @@
+package com.dedalus.interview.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator for the employee service.
+ * <p>
+ * Requests are started on a fixed schedule at {@code --rate} per second, each on its own virtual
+ * thread, whether or not earlier requests have finished. Latency is measured from the scheduled
+ * start, not the actual send, so a stalled server shows up as queueing delay in the percentiles
+ * instead of silently lowering the request rate (coordinated omission).
+ * <pre>
+ * java -jar target/loadtest.jar --url=http://localhost:8080 --rate=200 --duration=60 --warmup=10 \
+ *      --mix=list=30,search=20,get=20,department-list=10,departments=5,create=7,reassign=5,delete=3
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("url", "http://localhost:8080");
+        DEFAULTS.put("rate", "100");
+        DEFAULTS.put("duration", "60");
+        DEFAULTS.put("warmup", "10");
+        DEFAULTS.put("arrival", "poisson");
+        DEFAULTS.put("mix", "list=30,search=20,get=20,department-list=10,departments=5,create=7,reassign=5,delete=3");
+        DEFAULTS.put("max-in-flight", "10000");
+        DEFAULTS.put("timeout", "30");
+        DEFAULTS.put("histograms", "");
+        DEFAULTS.put("cleanup", "true");
+    }
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<String, String> options;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> errorCauses = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            if (arg.equals("--help") || !arg.startsWith("--") || !arg.contains("=")) {
+                System.out.println("Options (--name=value): " + DEFAULTS);
+                return;
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + DEFAULTS.keySet());
+            }
+            options.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        double rate = Double.parseDouble(options.get("rate"));
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.get("warmup")));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.get("duration")));
+        boolean poisson = options.get("arrival").equals("poisson");
+        int maxInFlight = Integer.parseInt(options.get("max-in-flight"));
+        Mix mix = Mix.parse(options.get("mix"));
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Workload workload = new Workload(client, options.get("url"), Duration.ofSeconds(Long.parseLong(options.get("timeout"))));
+        workload.discover();
+        System.out.printf("Target %s: %d employees and %d departments to read, %.0f req/s (%s arrivals), %ds warm-up + %ds%n",
+                options.get("url"), workload.knownEmployees(), workload.knownDepartments(), rate,
+                options.get("arrival"), warmupNanos / 1_000_000_000, durationNanos / 1_000_000_000);
+
+        Random random = new Random();
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        long next = start;
+        while (next < end) {
+            long delay = next - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            long intendedStart = next;
+            Operation operation = mix.pick(random);
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                if (intendedStart >= measureFrom) {
+                    dropped.increment();
+                }
+            } else {
+                executor.execute(() -> issue(workload, operation, intendedStart, intendedStart >= measureFrom));
+            }
+            double interval = poisson ? -Math.log(1 - random.nextDouble()) / rate : 1 / rate;
+            next += (long) (interval * 1_000_000_000);
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(Long.parseLong(options.get("timeout")) + 5, TimeUnit.SECONDS);
+        report(System.out, durationNanos);
+
+        if (Boolean.parseBoolean(options.get("cleanup"))) {
+            System.out.println("Deleted " + workload.cleanUp() + " employees created by this run");
+        }
+    }
+
+    private void issue(Workload workload, Operation operation, long intendedStart, boolean measured) {
+        try {
+            Workload.Result result = workload.execute(operation);
+            if (!measured) {
+                return;
+            }
+            if (result.successful()) {
+                recorders.get(result.operation()).recordValue(
+                        Math.min(System.nanoTime() - intendedStart, HIGHEST_TRACKABLE_NANOS));
+            } else {
+                recordError(result.operation(), "HTTP " + result.status());
+            }
+        } catch (IOException | RuntimeException e) {
+            if (measured) {
+                recordError(operation, e.getClass().getSimpleName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void recordError(Operation operation, String cause) {
+        errors.get(operation).increment();
+        errorCauses.computeIfAbsent(operation.endpoint() + ": " + cause, key -> new LongAdder()).increment();
+    }
+
+    private void report(PrintStream out, long durationNanos) throws IOException {
+        double seconds = durationNanos / 1e9;
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        long totalErrors = 0;
+        String histogramDir = options.get("histograms");
+
+        out.printf("%n%-42s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "ok", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long operationErrors = errors.get(operation).sum();
+            if (histogram.getTotalCount() == 0 && operationErrors == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += operationErrors;
+            printRow(out, operation.endpoint(), histogram, operationErrors, seconds);
+            if (!histogramDir.isEmpty()) {
+                Path file = Path.of(histogramDir, operation.key() + ".hgrm");
+                Files.createDirectories(file.getParent());
+                try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file))) {
+                    histogram.outputPercentileDistribution(hgrm, 1_000_000.0);
+                }
+            }
+        }
+        printRow(out, "all", total, totalErrors, seconds);
+        errorCauses.forEach((cause, count) -> out.printf("  %d x %s%n", count.sum(), cause));
+        if (dropped.sum() > 0) {
+            out.printf("%d requests not sent because --max-in-flight was reached%n", dropped.sum());
+        }
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, long errors, double seconds) {
+        out.printf("%-42s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, histogram.getTotalCount(), errors, (histogram.getTotalCount() + errors) / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /** Weighted choice of operations, from {@code --mix=list=30,search=20,...}. */
+    private record Mix(Operation[] operations, double[] cumulativeWeights) {
+
+        static Mix parse(String spec) {
+            Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Expected operation=weight in --mix, got '" + entry + "'");
+                }
+                weights.merge(Operation.fromKey(parts[0]), Double.parseDouble(parts[1]), Double::sum);
+            }
+            Operation[] operations = weights.keySet().toArray(new Operation[0]);
+            double[] cumulative = new double[operations.length];
+            double sum = 0;
+            for (int i = 0; i < operations.length; i++) {
+                sum += weights.get(operations[i]);
+                cumulative[i] = sum;
+            }
+            if (sum <= 0) {
+                throw new IllegalArgumentException("--mix needs at least one positive weight");
+            }
+            return new Mix(operations, cumulative);
+        }
+
+        Operation pick(Random random) {
+            double value = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.dedalus.interview.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The requests a load test can issue, with the endpoint each one is reported under.
+ */
+enum Operation {
+    LIST("GET /api/employees?limit"),
+    SEARCH("GET /api/employees?search&limit"),
+    GET("GET /api/employees/{id}"),
+    DEPARTMENT_LIST("GET /api/employees/department/{id}?limit"),
+    DEPARTMENTS("GET /api/departments"),
+    CREATE("POST /api/employees"),
+    REASSIGN("PUT /api/employees/{id}/department/{id}"),
+    DELETE("DELETE /api/employees/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    /** Name used in {@code --mix}, e.g. {@code department-list}. */
+    String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key().equals(key.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "' in --mix");
+    }
+}
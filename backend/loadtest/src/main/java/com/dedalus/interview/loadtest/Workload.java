@@ -0,0 +1,158 @@
+package com.dedalus.interview.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Turns operations into requests against the running service. Reads pick from the employees and
+ * departments found at start-up; reassignments and deletes only touch employees this run created,
+ * so the existing data set survives the test.
+ */
+final class Workload {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong created = new AtomicLong();
+
+    private final List<Long> employeeIds = new ArrayList<>();
+    private final List<Long> departmentIds = new ArrayList<>();
+    private final List<String> searchTerms = new ArrayList<>();
+    private final ConcurrentLinkedDeque<Long> ownEmployeeIds = new ConcurrentLinkedDeque<>();
+
+    Workload(HttpClient client, String baseUrl, Duration timeout) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    /** Loads the ids and search terms the read operations draw from. */
+    void discover() throws IOException, InterruptedException {
+        for (JsonNode department : getJson("/api/departments")) {
+            if (!department.path("id").isNull()) {
+                departmentIds.add(department.path("id").asLong());
+            }
+        }
+        for (JsonNode employee : getJson("/api/employees?limit=1000")) {
+            employeeIds.add(employee.path("id").asLong());
+            String[] names = employee.path("fullName").asText().toLowerCase(Locale.ROOT).split("\\s+");
+            String lastName = names[names.length - 1];
+            searchTerms.add(lastName.substring(0, Math.min(3, lastName.length())));
+        }
+        if (employeeIds.isEmpty() || departmentIds.isEmpty()) {
+            throw new IllegalStateException("The service needs at least one employee and one department to test against");
+        }
+    }
+
+    int knownEmployees() {
+        return employeeIds.size();
+    }
+
+    int knownDepartments() {
+        return departmentIds.size();
+    }
+
+    /**
+     * Sends one request and returns its status. Reassign and delete fall back to a create while
+     * this run has no employees of its own yet; the result reports the operation actually sent.
+     */
+    Result execute(Operation operation) throws IOException, InterruptedException {
+        if ((operation == Operation.REASSIGN || operation == Operation.DELETE) && ownEmployeeIds.isEmpty()) {
+            operation = Operation.CREATE;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpResponse<String> response;
+        switch (operation) {
+            case LIST -> response = send(get("/api/employees?limit=" + PAGE_SIZE));
+            case SEARCH -> response = send(get("/api/employees?limit=" + PAGE_SIZE + "&search="
+                    + searchTerms.get(random.nextInt(searchTerms.size()))));
+            case GET -> response = send(get("/api/employees/" + employeeIds.get(random.nextInt(employeeIds.size()))));
+            case DEPARTMENT_LIST -> response = send(get("/api/employees/department/"
+                    + departmentIds.get(random.nextInt(departmentIds.size())) + "?limit=" + PAGE_SIZE));
+            case DEPARTMENTS -> response = send(get("/api/departments"));
+            case CREATE -> {
+                long n = created.incrementAndGet();
+                String body = "{\"fullName\": \"Load Test " + n + "\", \"email\": \"load." + runId + "." + n
+                        + "@loadtest.local\"}";
+                response = send(request("/api/employees").header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)));
+                if (response.statusCode() == 201) {
+                    ownEmployeeIds.add(objectMapper.readTree(response.body()).path("id").asLong());
+                }
+            }
+            case REASSIGN -> {
+                Long id = ownEmployeeIds.peekFirst();
+                if (id == null) {
+                    return execute(Operation.CREATE);
+                }
+                response = send(request("/api/employees/" + id + "/department/"
+                        + departmentIds.get(random.nextInt(departmentIds.size())))
+                        .PUT(HttpRequest.BodyPublishers.noBody()));
+            }
+            case DELETE -> {
+                Long id = ownEmployeeIds.pollLast();
+                if (id == null) {
+                    return execute(Operation.CREATE);
+                }
+                response = send(request("/api/employees/" + id).DELETE());
+            }
+            default -> throw new IllegalStateException("Unhandled operation " + operation);
+        }
+        return new Result(operation, response.statusCode());
+    }
+
+    /** Deletes the employees this run created and did not delete itself. Returns how many. */
+    int cleanUp() throws IOException, InterruptedException {
+        int deleted = 0;
+        for (Long id = ownEmployeeIds.poll(); id != null; id = ownEmployeeIds.poll()) {
+            if (send(request("/api/employees/" + id).DELETE()).statusCode() == 204) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(get(path));
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    record Result(Operation operation, int status) {
+        boolean successful() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
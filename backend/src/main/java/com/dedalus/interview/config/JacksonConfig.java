@@ -0,0 +1,38 @@
+package com.dedalus.interview.config;
+
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+
+/**
+ * Registers the property filter that writes only the selected fields of a sparse
+ * {@link EmployeeSummaryDto}, on the mapper shared by REST, SSE and the export writer.
+ */
+@Singleton
+public class JacksonConfig implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.setFilterProvider(new SimpleFilterProvider()
+                .addFilter(EmployeeSummaryDto.FIELDS_FILTER, new SelectedFieldsFilter()));
+    }
+
+    private static class SelectedFieldsFilter extends SimpleBeanPropertyFilter {
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if (((EmployeeSummaryDto) pojo).isIncluded(writer.getName())) {
+                writer.serializeAsField(pojo, generator, provider);
+            } else if (!generator.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, generator, provider);
+            }
+        }
+    }
+}
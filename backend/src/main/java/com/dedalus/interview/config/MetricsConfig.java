@@ -0,0 +1,42 @@
+package com.dedalus.interview.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Publishes endpoint and service latencies as Prometheus histograms, so percentiles can be
+ * aggregated across instances instead of being pre-computed per process.
+ */
+@Singleton
+public class MetricsConfig {
+
+    /** Timer shared by every service method, tagged with {@code class} and {@code method}. */
+    public static final String SERVICE_TIMER = "service.method";
+
+    private static final Set<String> HISTOGRAM_TIMERS = Set.of("http.server.requests", SERVICE_TIMER);
+
+    @Produces
+    @Singleton
+    public MeterFilter latencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAM_TIMERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
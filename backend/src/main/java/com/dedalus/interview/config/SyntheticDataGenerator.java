@@ -0,0 +1,308 @@
+package com.dedalus.interview.config;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * Tops the database up to {@code app.seed.employees} employees and {@code app.seed.departments}
+ * departments for load testing. Rows are written straight through JDBC in parallel chunks, with
+ * {@code COPY} on PostgreSQL and batched inserts elsewhere. Department sizes follow a Zipf
+ * distribution, so a few departments are large and most are small.
+ */
+@ApplicationScoped
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = Logger.getLogger(SyntheticDataGenerator.class.getName());
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Carlos", "Karen",
+            "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Sandra", "Mark", "Ashley", "Sofia", "Emily",
+            "Luca", "Giulia", "Hans", "Anna", "Pierre", "Camille", "Hiroshi", "Yuki", "Wei", "Mei",
+            "Ahmed", "Fatima", "Ivan", "Olga", "Raj", "Priya", "Kwame", "Amara", "Mateo", "Valentina"};
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Rossi", "Bianchi", "Muller", "Schmidt", "Dubois", "Laurent", "Tanaka", "Sato", "Wang", "Chen",
+            "Hassan", "Khan", "Ivanov", "Petrova", "Patel", "Sharma", "Mensah", "Okafor", "Silva", "Costa"};
+    private static final String[] STREETS = {
+            "Main St", "Oak Ave", "Pine St", "Elm St", "Cedar Ave", "Birch St", "Maple Ave", "Spruce St",
+            "Lake Rd", "Hill St", "Park Ave", "River Rd", "Church St", "Mill Ln", "Station Rd", "High St"};
+    private static final String[] CITIES = {
+            "Anytown", "Springfield", "Riverside", "Fairview", "Greenville", "Madison", "Georgetown", "Salem",
+            "Clinton", "Franklin", "Bristol", "Oakland", "Arlington", "Ashland", "Milton", "Newport"};
+    private static final String[] DEPARTMENT_AREAS = {
+            "Engineering", "Sales", "Marketing", "Finance", "Human Resources", "Operations", "Legal", "Support",
+            "Research", "Procurement", "Logistics", "Quality", "Security", "Facilities", "Design", "Data"};
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @ConfigProperty(name = "app.seed.employees", defaultValue = "0")
+    int targetEmployees;
+
+    @ConfigProperty(name = "app.seed.departments", defaultValue = "0")
+    int targetDepartments;
+
+    @ConfigProperty(name = "app.seed.chunk-size", defaultValue = "10000")
+    int chunkSize;
+
+    @ConfigProperty(name = "app.seed.threads", defaultValue = "4")
+    int threads;
+
+    /** Zipf exponent of the department sizes; 0 spreads employees evenly. */
+    @ConfigProperty(name = "app.seed.skew", defaultValue = "1.0")
+    double skew;
+
+    /** Share of generated employees left without a department. */
+    @ConfigProperty(name = "app.seed.unassigned-ratio", defaultValue = "0.02")
+    double unassignedRatio;
+
+    @ConfigProperty(name = "app.seed.random-seed", defaultValue = "42")
+    long randomSeed;
+
+    /** Runs after {@link DataInitializer} and before the suggestion index is built. */
+    void onStart(@Observes @Priority(Interceptor.Priority.APPLICATION + 600) StartupEvent ev) throws Exception {
+        if (targetEmployees <= 0 && targetDepartments <= 0) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean postgres = isPostgres(connection);
+            int departments = generateDepartments(connection, postgres);
+            long[] departmentIds = loadDepartmentIds(connection);
+            int employees = generateEmployees(connection, postgres, departmentIds);
+            if (departments > 0 || employees > 0) {
+                // Rows written behind Hibernate's back must not be hidden by cached query results
+                sessionFactory.getCache().evictAll();
+            }
+            logger.info("Generated " + departments + " departments and " + employees + " employees in "
+                    + (System.nanoTime() - started) / 1_000_000 + " ms" + (postgres ? " using COPY" : ""));
+        }
+    }
+
+    private int generateDepartments(Connection connection, boolean postgres) throws SQLException {
+        int missing = targetDepartments - (int) count(connection, "departments");
+        if (missing <= 0) {
+            return 0;
+        }
+
+        long firstId = reserveIds(connection, postgres, "departments", missing);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO departments (id, name) VALUES (?, ?)")) {
+            for (int i = 0; i < missing; i++) {
+                long id = firstId + i;
+                insert.setLong(1, id);
+                // The id keeps names unique across restarts and alongside the sample departments
+                insert.setString(2, DEPARTMENT_AREAS[i % DEPARTMENT_AREAS.length] + " " + id);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return missing;
+    }
+
+    private int generateEmployees(Connection connection, boolean postgres, long[] departmentIds) throws Exception {
+        int missing = targetEmployees - (int) count(connection, "employees");
+        if (missing <= 0) {
+            return 0;
+        }
+
+        long firstId = reserveIds(connection, postgres, "employees", missing);
+        double[] cumulativeWeights = zipfCumulativeWeights(departmentIds.length);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int offset = 0; offset < missing; offset += chunkSize) {
+                long chunkFirstId = firstId + offset;
+                int rows = Math.min(chunkSize, missing - offset);
+                chunks.add(executor.submit(() -> {
+                    writeEmployeeChunk(postgres, chunkFirstId, rows, departmentIds, cumulativeWeights);
+                    return null;
+                }));
+            }
+            for (Future<?> chunk : chunks) {
+                try {
+                    chunk.get();
+                } catch (ExecutionException e) {
+                    throw (e.getCause() instanceof Exception cause) ? cause : e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return missing;
+    }
+
+    private void writeEmployeeChunk(boolean postgres, long firstId, int rows, long[] departmentIds,
+                                    double[] cumulativeWeights) throws SQLException, IOException {
+        // Seeding by first id keeps the data reproducible whatever the thread scheduling
+        Random random = new Random(randomSeed ^ firstId);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            if (postgres) {
+                StringBuilder csv = new StringBuilder(rows * 128);
+                for (int i = 0; i < rows; i++) {
+                    String[] row = employeeRow(firstId + i, random, departmentIds, cumulativeWeights);
+                    for (int column = 0; column < row.length; column++) {
+                        if (column > 0) {
+                            csv.append(',');
+                        }
+                        appendCsv(csv, row[column]);
+                    }
+                    csv.append('\n');
+                }
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "COPY employees (id, full_name, address, phone, email, department_id) FROM STDIN WITH (FORMAT csv)",
+                        new StringReader(csv.toString()));
+            } else {
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO employees (id, full_name, address, phone, email, department_id) VALUES (?, ?, ?, ?, ?, ?)")) {
+                    for (int i = 0; i < rows; i++) {
+                        String[] row = employeeRow(firstId + i, random, departmentIds, cumulativeWeights);
+                        insert.setLong(1, firstId + i);
+                        for (int column = 1; column < 5; column++) {
+                            insert.setString(column + 1, row[column]);
+                        }
+                        if (row[5] == null) {
+                            insert.setNull(6, Types.BIGINT);
+                        } else {
+                            insert.setLong(6, Long.parseLong(row[5]));
+                        }
+                        insert.addBatch();
+                        if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                    insert.executeBatch();
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    /** Returns id, full name, address, phone, email and department id (null when unassigned). */
+    private String[] employeeRow(long id, Random random, long[] departmentIds, double[] cumulativeWeights) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String address = (1 + random.nextInt(9999)) + " " + STREETS[random.nextInt(STREETS.length)] + ", "
+                + CITIES[random.nextInt(CITIES.length)] + ", USA";
+        String phone = String.format("+1-555-%04d-%03d", id % 10000, random.nextInt(1000));
+        String email = (firstName + "." + lastName).toLowerCase(Locale.ROOT) + "." + id + "@company.com";
+
+        String departmentId = null;
+        if (departmentIds.length > 0 && random.nextDouble() >= unassignedRatio) {
+            int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+            departmentId = String.valueOf(departmentIds[Math.min(index < 0 ? -index - 1 : index, departmentIds.length - 1)]);
+        }
+        return new String[]{String.valueOf(id), firstName + " " + lastName, address, phone, email, departmentId};
+    }
+
+    private double[] zipfCumulativeWeights(int departments) {
+        double[] cumulative = new double[departments];
+        double total = 0;
+        for (int rank = 0; rank < departments; rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < departments; rank++) {
+            cumulative[rank] /= total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Claims a block of {@code count} ids above anything the sequence has handed out, including
+     * ids Hibernate still holds in memory from its pooled allocations, then moves the sequence past
+     * the block so later inserts through Hibernate do not collide with it.
+     */
+    private long reserveIds(Connection connection, boolean postgres, String table, int count) throws SQLException {
+        String sequence = table + "_id_seq";
+        long current = singleLong(connection, postgres
+                ? "SELECT nextval('" + sequence + "')"
+                : "SELECT NEXT VALUE FOR " + sequence);
+        long firstId = Math.max(current, singleLong(connection, "SELECT COALESCE(MAX(id), 0) FROM " + table)) + 1;
+        long lastId = firstId + count - 1;
+        try (Statement statement = connection.createStatement()) {
+            if (postgres) {
+                // The pooled optimizer hands out (value - increment, value], so leave one block of headroom
+                statement.execute("SELECT setval('" + sequence + "', " + lastId + ")");
+            } else {
+                statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (lastId + 50));
+            }
+        }
+        return firstId;
+    }
+
+    private long[] loadDepartmentIds(Connection connection) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id FROM departments ORDER BY id")) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        // Shuffle so the largest departments are not simply the oldest ones
+        Collections.shuffle(ids, new Random(randomSeed));
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static boolean isPostgres(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgres")
+                && connection.isWrapperFor(PGConnection.class);
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        return singleLong(connection, "SELECT COUNT(*) FROM " + table);
+    }
+
+    private static long singleLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void appendCsv(StringBuilder csv, String value) {
+        if (value == null) {
+            return;
+        }
+        csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,50 @@
+package com.dedalus.interview.controller;
+
+import com.dedalus.interview.dto.CacheStatisticsDto;
+import io.smallrye.common.annotation.NonBlocking;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+
+@Path("/api/cache")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Cache", description = "Second-level and query cache diagnostics")
+public class CacheController {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @GET
+    @Path("/statistics")
+    @NonBlocking
+    @Operation(summary = "Get hit, miss and put counters of the Hibernate caches")
+    @APIResponse(responseCode = "200", description = "Cache counters per region")
+    public CacheStatisticsDto getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheStatisticsDto dto = new CacheStatisticsDto();
+        dto.setQueryCacheHits(statistics.getQueryCacheHitCount());
+        dto.setQueryCacheMisses(statistics.getQueryCacheMissCount());
+        dto.setQueryCachePuts(statistics.getQueryCachePutCount());
+
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                dto.getRegions().add(new CacheStatisticsDto.Region(regionName, region.getHitCount(),
+                        region.getMissCount(), region.getPutCount(), region.getElementCountInMemory()));
+            }
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,47 @@
+package com.dedalus.interview.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes response DTOs as CBOR for service-to-service clients that ask for {@value #CBOR}. The
+ * mapper is a copy of the application's JSON mapper, so modules and property filters (sparse
+ * fieldsets) apply to both encodings alike. Byte arrays are bodies encoded already (see
+ * {@link EncodedResponseCache}) and are left to the built-in writer.
+ */
+@Provider
+@Produces(CborMessageBodyWriter.CBOR)
+public class CborMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    public static final String CBOR = "application/cbor";
+    public static final MediaType CBOR_TYPE = MediaType.valueOf(CBOR);
+
+    private final ObjectMapper cborMapper;
+
+    @Inject
+    public CborMessageBodyWriter(ObjectMapper objectMapper) {
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type != byte[].class && CBOR_TYPE.isCompatible(mediaType);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        cborMapper.writeValue(entityStream, entity);
+    }
+}
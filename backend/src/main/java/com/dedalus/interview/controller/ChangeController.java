@@ -0,0 +1,87 @@
+package com.dedalus.interview.controller;
+
+import com.dedalus.interview.dto.ChangeEventDto;
+import com.dedalus.interview.service.ChangeFeedService;
+import io.smallrye.common.annotation.NonBlocking;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.function.Consumer;
+
+@Path("/api/changes")
+@Tag(name = "Changes", description = "Live feed of committed employee and department changes")
+public class ChangeController {
+
+    @Inject
+    ChangeFeedService changeFeed;
+
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @NonBlocking
+    @Operation(summary = "Stream committed changes as server-sent events",
+            description = "Each event is named after its type and carries its sequence as the event id. " +
+                    "A 'sync' event means the client must reload its lists and apply the events that follow.")
+    @APIResponse(responseCode = "200", description = "Event stream")
+    public void streamChanges(@Context SseEventSink sink, @Context Sse sse,
+                              @Parameter(description = "Sequence of the last event seen, sent by EventSource on reconnect")
+                              @HeaderParam("Last-Event-ID") String lastEventId,
+                              @Parameter(description = "Sequence to resume after, for clients that cannot set Last-Event-ID")
+                              @QueryParam("after") Long after) {
+        changeFeed.subscribe(after != null ? after : parseSequence(lastEventId), new SinkSubscriber(sink, sse, changeFeed));
+    }
+
+    private static Long parseSequence(String lastEventId) {
+        try {
+            return lastEventId != null ? Long.valueOf(lastEventId.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes changes to one client and unsubscribes once its connection is gone.
+     */
+    private static class SinkSubscriber implements Consumer<ChangeEventDto> {
+
+        private final SseEventSink sink;
+        private final Sse sse;
+        private final ChangeFeedService changeFeed;
+
+        SinkSubscriber(SseEventSink sink, Sse sse, ChangeFeedService changeFeed) {
+            this.sink = sink;
+            this.sse = sse;
+            this.changeFeed = changeFeed;
+        }
+
+        @Override
+        public void accept(ChangeEventDto change) {
+            if (sink.isClosed()) {
+                changeFeed.unsubscribe(this);
+                return;
+            }
+            sink.send(sse.newEventBuilder()
+                            .id(String.valueOf(change.getSequence()))
+                            .name(change.getType().getEventName())
+                            .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                            .data(ChangeEventDto.class, change)
+                            .build())
+                    .whenComplete((ignored, failure) -> {
+                        if (failure != null) {
+                            changeFeed.unsubscribe(this);
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.dedalus.interview.controller;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Answers GET requests with a strong ETag built from a data version. When the client's
+ * If-None-Match still matches, a 304 is returned without running {@code response}, so neither the
+ * query nor the serialisation happens.
+ */
+final class ConditionalGet {
+
+    /** {@code Cache-Control: no-cache}: clients may store responses but must revalidate them. */
+    static final CacheControl REVALIDATE = revalidate();
+
+    /** JSON, or CBOR when the client prefers it; JSON wins ties and requests without Accept. */
+    static final List<Variant> JSON_OR_CBOR =
+            Variant.mediaTypes(MediaType.APPLICATION_JSON_TYPE, CborMessageBodyWriter.CBOR_TYPE).build();
+
+    private ConditionalGet() {}
+
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+
+    static Response evaluate(Request request, String version, Supplier<Response.ResponseBuilder> response) {
+        EntityTag tag = new EntityTag(version);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.cacheControl(REVALIDATE).build();
+        }
+        return response.get().tag(tag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * Like {@link #evaluate(Request, String, Supplier)} for a resource with several encodings. Each
+     * encoding other than the first gets its own ETag, so a cached JSON body is never revalidated
+     * as CBOR or vice versa, and responses carry {@code Vary: Accept}.
+     */
+    static Response evaluate(Request request, String version, List<Variant> variants,
+                             Supplier<Response.ResponseBuilder> response) {
+        Variant variant = request.selectVariant(variants);
+        if (variant == null) {
+            return Response.notAcceptable(variants).build();
+        }
+        MediaType mediaType = variant.getMediaType();
+        EntityTag tag = new EntityTag(tag(version, variants, variant));
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.variants(variants).cacheControl(REVALIDATE).build();
+        }
+        return response.get().type(mediaType).variants(variants).tag(tag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * ETag value of {@code variant}: the version itself for the first (default) variant, suffixed
+     * with the media subtype for the others.
+     */
+    static String tag(String version, List<Variant> variants, Variant variant) {
+        return variant.equals(variants.get(0)) ? version : version + "+" + variant.getMediaType().getSubtype();
+    }
+}
@@ -1,62 +1,91 @@
 package com.dedalus.interview.controller;
 
 import com.dedalus.interview.dto.DepartmentSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto.Field;
 import com.dedalus.interview.entity.Department;
+import com.dedalus.interview.service.DataVersionService;
 import com.dedalus.interview.service.DepartmentService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 @Path("/api/departments")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
 @Tag(name = "Departments", description = "Department management operations")
 public class DepartmentController {
 
     private static final Logger logger = Logger.getLogger(DepartmentController.class.getName());
 
+    static final int MAX_OVERVIEW_EMPLOYEES = 100;
+
     @Inject
     DepartmentService departmentService;
 
+    @Inject
+    DataVersionService dataVersion;
+
+    @Inject
+    EncodedResponseCache responseCache;
+
     @GET
+    @Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.CBOR})
     @Operation(summary = "Get all departments with employee counts")
     @APIResponse(responseCode = "200", description = "List of departments with employee counts")
-    public List<DepartmentSummaryDto> getAllDepartments() {
-        logger.info("GET /api/departments - Getting all departments");
-
-        List<Department> departments = departmentService.getAllDepartments();
-        List<DepartmentSummaryDto> summaries = new ArrayList<>();
-
-        for (Department dept : departments) {
-            summaries.add(new DepartmentSummaryDto(dept));
-        }
+    @APIResponse(responseCode = "304", description = "Unchanged since the ETag given in If-None-Match")
+    public Response getAllDepartments(@Context Request request,
+                                      @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        return responseCache.respond("departments", request, acceptEncoding, dataVersion.globalVersion(),
+                departmentService::getDepartmentSummaries);
+    }
 
-        long unassignedCount = departmentService.getUnassignedEmployeeCount();
-        if (unassignedCount > 0) {
-            summaries.add(new DepartmentSummaryDto(null, "Unassigned", (int) unassignedCount));
+    @GET
+    @Path("/overview")
+    @Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.CBOR})
+    @Operation(summary = "Get every department with its employee count and first employees",
+            description = "One request and two SQL statements for any number of departments. " +
+                    "Use employees=0 for counts only and fields= to choose the employee fields.")
+    @APIResponse(responseCode = "200", description = "Departments with their first employees")
+    @APIResponse(responseCode = "304", description = "Unchanged since the ETag given in If-None-Match")
+    @APIResponse(responseCode = "400", description = "Invalid employees count or field")
+    public Response getDepartmentOverviews(
+            @Parameter(description = "Employees per department, in list order (0 to " + MAX_OVERVIEW_EMPLOYEES + ")")
+            @QueryParam("employees") @DefaultValue("20") int employees,
+            @Parameter(description = EmployeeController.FIELDS_DESCRIPTION) @QueryParam("fields") String fields,
+            @Context Request request) {
+        if (employees < 0 || employees > MAX_OVERVIEW_EMPLOYEES) {
+            throw new BadRequestException("employees must be between 0 and " + MAX_OVERVIEW_EMPLOYEES);
         }
-
-        return summaries;
+        Set<Field> selected = EmployeeSummaryDto.parseFields(fields);
+        return ConditionalGet.evaluate(request, dataVersion.globalVersion(), ConditionalGet.JSON_OR_CBOR,
+                () -> Response.ok(departmentService.getDepartmentOverviews(employees, selected)));
     }
 
     @GET
     @Path("/{id}")
     @Operation(summary = "Get department by ID")
     @APIResponse(responseCode = "200", description = "Department found")
+    @APIResponse(responseCode = "304", description = "Unchanged since the ETag given in If-None-Match")
     @APIResponse(responseCode = "404", description = "Department not found")
-    public Department getDepartmentById(@Parameter(description = "Department ID") @PathParam("id") Long id) {
-        logger.info("GET /api/departments/" + id);
-        return departmentService.getDepartmentById(id);
+    public Response getDepartmentById(@Parameter(description = "Department ID") @PathParam("id") Long id,
+                                      @Context Request request) {
+        return ConditionalGet.evaluate(request, dataVersion.globalVersion(),
+                () -> Response.ok(departmentService.getDepartmentSummaryById(id)));
     }
 
     @POST
@@ -65,11 +94,10 @@ public class DepartmentController {
     @APIResponse(responseCode = "400", description = "Invalid department data")
     @APIResponse(responseCode = "409", description = "Department with name already exists")
     public Response createDepartment(@Valid Department department) {
-        logger.info("POST /api/departments - Creating department: " + department.getName());
-
         try {
             Department created = departmentService.createDepartment(department);
-            return Response.status(Response.Status.CREATED).entity(created).build();
+            // A new department has no employees yet
+            return Response.status(Response.Status.CREATED).entity(new DepartmentSummaryDto(created, 0)).build();
         } catch (BadRequestException e) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new ErrorResponse(e.getMessage()))
@@ -91,11 +119,9 @@ public class DepartmentController {
     @APIResponse(responseCode = "409", description = "Department with name already exists")
     public Response updateDepartment(@Parameter(description = "Department ID") @PathParam("id") Long id,
                                    @Valid Department department) {
-        logger.info("PUT /api/departments/" + id);
-
         try {
             Department updated = departmentService.updateDepartment(id, department);
-            DepartmentSummaryDto dto = new DepartmentSummaryDto(updated);
+            DepartmentSummaryDto dto = departmentService.getDepartmentSummary(updated);
             return Response.ok(dto).build();
         } catch (NotFoundException e) {
             return Response.status(Response.Status.NOT_FOUND)
@@ -119,8 +145,6 @@ public class DepartmentController {
     @APIResponse(responseCode = "204", description = "Department deleted successfully")
     @APIResponse(responseCode = "404", description = "Department not found")
     public Response deleteDepartment(@Parameter(description = "Department ID") @PathParam("id") Long id) {
-        logger.info("DELETE /api/departments/" + id);
-
         try {
             departmentService.deleteDepartment(id);
             return Response.noContent().build();
@@ -1,20 +1,48 @@
 package com.dedalus.interview.controller;
 
+import com.dedalus.interview.dto.EmployeeCursor;
+import com.dedalus.interview.dto.EmployeeImportResultDto;
+import com.dedalus.interview.dto.EmployeeImportRow;
+import com.dedalus.interview.dto.EmployeeLookupDto;
+import com.dedalus.interview.dto.EmployeeLookupResultDto;
+import com.dedalus.interview.dto.EmployeeReassignmentDto;
+import com.dedalus.interview.dto.EmployeePage;
+import com.dedalus.interview.dto.EmployeeSuggestionDto;
 import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto.Field;
+import com.dedalus.interview.dto.ReassignmentResultDto;
 import com.dedalus.interview.entity.Employee;
+import com.dedalus.interview.service.DataVersionService;
 import com.dedalus.interview.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 import java.util.logging.Logger;
 
 @Path("/api/employees")
@@ -25,84 +53,169 @@ public class EmployeeController {
 
     private static final Logger logger = Logger.getLogger(EmployeeController.class.getName());
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int MAX_SUGGESTIONS = 50;
+    static final String FIELDS_DESCRIPTION =
+            "Comma-separated summary fields to return, e.g. fullName,departmentName; id and fullName are always included";
+
     @Inject
     EmployeeService employeeService;
 
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    DataVersionService dataVersion;
+
+    @ConfigProperty(name = "app.import.chunk-size", defaultValue = "500")
+    int importChunkSize;
+
     @GET
+    @Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.CBOR})
+    @RunOnVirtualThread
     @Operation(summary = "Get all employees or search by name")
     @APIResponse(responseCode = "200", description = "List of employees")
-    public List<EmployeeSummaryDto> getAllEmployees(@QueryParam("search") String search) {
-        logger.info("GET /api/employees" + (search != null ? "?search=" + search : ""));
-
-        List<Employee> employees;
-        if (search != null && !search.trim().isEmpty()) {
-            employees = employeeService.searchEmployeesByName(search);
-        } else {
-            employees = employeeService.getAllEmployees();
-        }
+    @APIResponse(responseCode = "304", description = "Unchanged since the ETag given in If-None-Match")
+    public Response getAllEmployees(@QueryParam("search") String search,
+                                    @Parameter(description = "Cursor returned in " + NEXT_CURSOR_HEADER) @QueryParam("after") String after,
+                                    @Parameter(description = "Page size, unpaginated when omitted") @QueryParam("limit") Integer limit,
+                                    @Parameter(description = FIELDS_DESCRIPTION) @QueryParam("fields") String fields,
+                                    @Context Request request) {
+        EmployeeCursor cursor = EmployeeCursor.decode(after);
+        int pageSize = pageSize(limit);
+        Set<Field> selected = EmployeeSummaryDto.parseFields(fields);
+        return ConditionalGet.evaluate(request, dataVersion.globalVersion(), ConditionalGet.JSON_OR_CBOR, () -> {
+            if (search != null && !search.trim().isEmpty()) {
+                return page(employeeService.searchEmployeesByName(search, cursor, pageSize, selected));
+            } else {
+                return page(employeeService.getAllEmployees(cursor, pageSize, selected));
+            }
+        });
+    }
 
-        return employees.stream()
-                .map(EmployeeSummaryDto::new)
-                .collect(Collectors.toList());
+    @GET
+    @Path("/suggest")
+    @NonBlocking
+    @Operation(summary = "Suggest employees whose name or email starts with the query, served from memory")
+    @APIResponse(responseCode = "200", description = "Matching employees")
+    public List<EmployeeSuggestionDto> suggestEmployees(
+            @QueryParam("q") String query,
+            @Parameter(description = "Maximum number of suggestions") @QueryParam("limit") @DefaultValue("10") int limit) {
+        return employeeService.suggestEmployees(query, Math.min(Math.max(limit, 0), MAX_SUGGESTIONS));
+    }
+
+    @GET
+    @Path("/export")
+    @Produces({EmployeeExportWriter.NDJSON, EmployeeExportWriter.CSV})
+    @RunOnVirtualThread
+    @Operation(summary = "Stream all employees as NDJSON or CSV")
+    @APIResponse(responseCode = "200", description = "Employee export")
+    @APIResponse(responseCode = "400", description = "Unsupported export format")
+    public Response exportEmployees(
+            @Parameter(description = "ndjson or csv") @QueryParam("format") @DefaultValue("ndjson") String format) {
+        String mediaType = EmployeeExportWriter.mediaType(format);
+        StreamingOutput body = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            EmployeeExportWriter exportWriter = EmployeeExportWriter.create(mediaType, writer, objectMapper);
+            employeeService.exportEmployees(exportWriter::write);
+            exportWriter.finish();
+        };
+        return Response.ok(body, mediaType)
+                .header("Content-Disposition", "attachment; filename=\"employees." + format + "\"")
+                .build();
     }
 
     @GET
     @Path("/{id}")
+    @RunOnVirtualThread
     @Operation(summary = "Get employee by ID")
     @APIResponse(responseCode = "200", description = "Employee found")
+    @APIResponse(responseCode = "304", description = "Unchanged since the ETag given in If-None-Match")
     @APIResponse(responseCode = "404", description = "Employee not found")
-    public Employee getEmployeeById(@Parameter(description = "Employee ID") @PathParam("id") Long id) {
-        logger.info("GET /api/employees/" + id);
-        return employeeService.getEmployeeById(id);
+    public Response getEmployeeById(@Parameter(description = "Employee ID") @PathParam("id") Long id,
+                                    @Context Request request) {
+        return ConditionalGet.evaluate(request, dataVersion.globalVersion(),
+                () -> Response.ok(employeeService.getEmployeeById(id)));
+    }
+
+    @POST
+    @Path("/lookup")
+    @ReadOnly
+    @RunOnVirtualThread
+    @Operation(summary = "Resolve a batch of employee ids in one request",
+            description = "Results follow the order of the requested ids; unknown ids are returned with found = false.")
+    @APIResponse(responseCode = "200", description = "One result per requested id")
+    @APIResponse(responseCode = "400", description = "Missing ids or too many ids")
+    public Response lookupEmployees(EmployeeLookupDto lookup) {
+        try {
+            List<EmployeeLookupResultDto> results = employeeService.lookupEmployees(lookup != null ? lookup.getIds() : null);
+            return Response.ok(results).build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new DepartmentController.ErrorResponse(e.getMessage()))
+                    .build();
+        } catch (Exception e) {
+            logger.severe("Error looking up employees: " + e.getMessage());
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new DepartmentController.ErrorResponse("Internal server error"))
+                    .build();
+        }
     }
 
     @GET
     @Path("/department/{departmentId}")
+    @Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.CBOR})
+    @RunOnVirtualThread
     @Operation(summary = "Get employees by department")
     @APIResponse(responseCode = "200", description = "List of employees in department")
-    public List<EmployeeSummaryDto> getEmployeesByDepartment(
+    public Response getEmployeesByDepartment(
             @Parameter(description = "Department ID") @PathParam("departmentId") Long departmentId,
-            @QueryParam("search") String search) {
-        logger.info("GET /api/employees/department/" + departmentId + (search != null ? "?search=" + search : ""));
-
-        List<Employee> employees;
-        if (search != null && !search.trim().isEmpty()) {
-            employees = employeeService.searchEmployeesInDepartment(departmentId, search);
-        } else {
-            employees = employeeService.getEmployeesByDepartmentId(departmentId);
-        }
-
-        return employees.stream()
-                .map(EmployeeSummaryDto::new)
-                .collect(Collectors.toList());
+            @QueryParam("search") String search,
+            @Parameter(description = "Cursor returned in " + NEXT_CURSOR_HEADER) @QueryParam("after") String after,
+            @Parameter(description = "Page size, unpaginated when omitted") @QueryParam("limit") Integer limit,
+            @Parameter(description = FIELDS_DESCRIPTION) @QueryParam("fields") String fields,
+            @Context Request request) {
+        EmployeeCursor cursor = EmployeeCursor.decode(after);
+        int pageSize = pageSize(limit);
+        Set<Field> selected = EmployeeSummaryDto.parseFields(fields);
+        return ConditionalGet.evaluate(request, dataVersion.departmentVersion(departmentId), ConditionalGet.JSON_OR_CBOR, () -> {
+            if (search != null && !search.trim().isEmpty()) {
+                return page(employeeService.searchEmployeesInDepartment(departmentId, search, cursor, pageSize, selected));
+            } else {
+                return page(employeeService.getEmployeesByDepartmentId(departmentId, cursor, pageSize, selected));
+            }
+        });
     }
 
     @GET
     @Path("/unassigned")
+    @Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.CBOR})
+    @RunOnVirtualThread
     @Operation(summary = "Get unassigned employees")
     @APIResponse(responseCode = "200", description = "List of unassigned employees")
-    public List<EmployeeSummaryDto> getUnassignedEmployees(@QueryParam("search") String search) {
-        logger.info("GET /api/employees/unassigned" + (search != null ? "?search=" + search : ""));
-
-        List<Employee> employees;
-        if (search != null && !search.trim().isEmpty()) {
-            employees = employeeService.searchEmployeesInDepartment(null, search);
-        } else {
-            employees = employeeService.getUnassignedEmployees();
-        }
-
-        return employees.stream()
-                .map(EmployeeSummaryDto::new)
-                .collect(Collectors.toList());
+    public Response getUnassignedEmployees(@QueryParam("search") String search,
+                                           @Parameter(description = "Cursor returned in " + NEXT_CURSOR_HEADER) @QueryParam("after") String after,
+                                           @Parameter(description = "Page size, unpaginated when omitted") @QueryParam("limit") Integer limit,
+                                           @Parameter(description = FIELDS_DESCRIPTION) @QueryParam("fields") String fields,
+                                           @Context Request request) {
+        EmployeeCursor cursor = EmployeeCursor.decode(after);
+        int pageSize = pageSize(limit);
+        Set<Field> selected = EmployeeSummaryDto.parseFields(fields);
+        return ConditionalGet.evaluate(request, dataVersion.departmentVersion(null), ConditionalGet.JSON_OR_CBOR, () -> {
+            if (search != null && !search.trim().isEmpty()) {
+                return page(employeeService.searchEmployeesInDepartment(null, search, cursor, pageSize, selected));
+            } else {
+                return page(employeeService.getUnassignedEmployees(cursor, pageSize, selected));
+            }
+        });
     }
 
     @POST
+    @RunOnVirtualThread
     @Operation(summary = "Create a new employee")
     @APIResponse(responseCode = "201", description = "Employee created successfully")
     @APIResponse(responseCode = "400", description = "Invalid employee data")
     public Response createEmployee(@Valid Employee employee) {
-        logger.info("POST /api/employees - Creating employee: " + employee.getFullName());
-
         try {
             Employee created = employeeService.createEmployee(employee);
             return Response.status(Response.Status.CREATED).entity(created).build();
@@ -118,16 +231,50 @@ public class EmployeeController {
         }
     }
 
+    @POST
+    @Path("/import")
+    @Consumes({EmployeeExportWriter.NDJSON, EmployeeExportWriter.CSV})
+    @RunOnVirtualThread
+    @Operation(summary = "Bulk import employees from NDJSON or CSV in the export layout")
+    @APIResponse(responseCode = "200", description = "Import report with imported and rejected row counts")
+    @APIResponse(responseCode = "400", description = "Unsupported format or missing CSV header")
+    public Response importEmployees(@Context HttpHeaders headers, InputStream body) throws IOException {
+        MediaType mediaType = headers.getMediaType();
+        String format = mediaType != null ? mediaType.getType() + "/" + mediaType.getSubtype() : null;
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            EmployeeImportReader importReader = EmployeeImportReader.create(format, reader, objectMapper);
+
+            EmployeeImportResultDto result = new EmployeeImportResultDto();
+            List<EmployeeImportRow> chunk = new ArrayList<>(importChunkSize);
+            EmployeeImportRow row;
+            while ((row = importReader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == importChunkSize) {
+                    result.addChunk(chunk.size(), employeeService.importEmployees(chunk));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                result.addChunk(chunk.size(), employeeService.importEmployees(chunk));
+            }
+            return Response.ok(result).build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new DepartmentController.ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
     @PUT
     @Path("/{id}")
+    @RunOnVirtualThread
     @Operation(summary = "Update an existing employee")
     @APIResponse(responseCode = "200", description = "Employee updated successfully")
     @APIResponse(responseCode = "400", description = "Invalid employee data")
     @APIResponse(responseCode = "404", description = "Employee not found")
     public Response updateEmployee(@Parameter(description = "Employee ID") @PathParam("id") Long id,
                                  @Valid Employee employee) {
-        logger.info("PUT /api/employees/" + id);
-
         try {
             Employee updated = employeeService.updateEmployee(id, employee);
             return Response.ok(updated).build();
@@ -149,12 +296,11 @@ public class EmployeeController {
 
     @DELETE
     @Path("/{id}")
+    @RunOnVirtualThread
     @Operation(summary = "Delete an employee")
     @APIResponse(responseCode = "204", description = "Employee deleted successfully")
     @APIResponse(responseCode = "404", description = "Employee not found")
     public Response deleteEmployee(@Parameter(description = "Employee ID") @PathParam("id") Long id) {
-        logger.info("DELETE /api/employees/" + id);
-
         try {
             employeeService.deleteEmployee(id);
             return Response.noContent().build();
@@ -172,14 +318,13 @@ public class EmployeeController {
 
     @PUT
     @Path("/{id}/department/{departmentId}")
+    @RunOnVirtualThread
     @Operation(summary = "Assign employee to department")
     @APIResponse(responseCode = "200", description = "Employee assigned successfully")
     @APIResponse(responseCode = "404", description = "Employee or department not found")
     public Response assignToDepartment(
             @Parameter(description = "Employee ID") @PathParam("id") Long employeeId,
             @Parameter(description = "Department ID") @PathParam("departmentId") Long departmentId) {
-        logger.info("PUT /api/employees/" + employeeId + "/department/" + departmentId);
-
         try {
             Employee updated = employeeService.assignEmployeeToDepartment(employeeId, departmentId);
             return Response.ok(updated).build();
@@ -195,14 +340,36 @@ public class EmployeeController {
         }
     }
 
+    @PUT
+    @Path("/department/{departmentId}")
+    @RunOnVirtualThread
+    @Operation(summary = "Move several employees, or all employees of a department, to a department")
+    @APIResponse(responseCode = "200", description = "Number of employees moved")
+    @APIResponse(responseCode = "400", description = "Neither or both of employeeIds and fromDepartmentId given")
+    @APIResponse(responseCode = "404", description = "Department not found")
+    public Response reassignToDepartment(
+            @Parameter(description = "Target department ID") @PathParam("departmentId") Long departmentId,
+            EmployeeReassignmentDto reassignment) {
+        return reassign(reassignment, departmentId);
+    }
+
+    @PUT
+    @Path("/unassigned")
+    @RunOnVirtualThread
+    @Operation(summary = "Move several employees, or all employees of a department, to unassigned")
+    @APIResponse(responseCode = "200", description = "Number of employees moved")
+    @APIResponse(responseCode = "400", description = "Neither or both of employeeIds and fromDepartmentId given")
+    public Response reassignToUnassigned(EmployeeReassignmentDto reassignment) {
+        return reassign(reassignment, null);
+    }
+
     @DELETE
     @Path("/{id}/department")
+    @RunOnVirtualThread
     @Operation(summary = "Remove employee from department (make unassigned)")
     @APIResponse(responseCode = "200", description = "Employee unassigned successfully")
     @APIResponse(responseCode = "404", description = "Employee not found")
     public Response removeFromDepartment(@Parameter(description = "Employee ID") @PathParam("id") Long employeeId) {
-        logger.info("DELETE /api/employees/" + employeeId + "/department");
-
         try {
             Employee updated = employeeService.assignEmployeeToDepartment(employeeId, null);
             return Response.ok(updated).build();
@@ -217,4 +384,45 @@ public class EmployeeController {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    private Response reassign(EmployeeReassignmentDto reassignment, Long departmentId) {
+        try {
+            if (reassignment == null) {
+                throw new BadRequestException("Either employeeIds or fromDepartmentId is required");
+            }
+            int updated = employeeService.reassignEmployees(reassignment, departmentId);
+            return Response.ok(new ReassignmentResultDto(updated)).build();
+        } catch (NotFoundException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(new DepartmentController.ErrorResponse(e.getMessage()))
+                    .build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new DepartmentController.ErrorResponse(e.getMessage()))
+                    .build();
+        } catch (Exception e) {
+            logger.severe("Error reassigning employees: " + e.getMessage());
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new DepartmentController.ErrorResponse("Internal server error"))
+                    .build();
+        }
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return 0;
+        }
+        if (limit < 1 || limit > EmployeePage.MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + EmployeePage.MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    private Response.ResponseBuilder page(EmployeePage page) {
+        Response.ResponseBuilder response = Response.ok(page.getItems());
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,114 @@
+package com.dedalus.interview.controller;
+
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.BadRequestException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes employee export rows one at a time in either NDJSON or CSV, flushing periodically so the
+ * client starts receiving bytes before the export is complete.
+ */
+abstract class EmployeeExportWriter {
+
+    static final String NDJSON = "application/x-ndjson";
+    static final String CSV = "text/csv";
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    protected final Writer writer;
+    private int rows;
+
+    EmployeeExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    static String mediaType(String format) {
+        switch (format) {
+            case "ndjson":
+                return NDJSON;
+            case "csv":
+                return CSV;
+            default:
+                throw new BadRequestException("Unsupported export format: " + format);
+        }
+    }
+
+    static EmployeeExportWriter create(String mediaType, Writer writer, ObjectMapper objectMapper) throws IOException {
+        return CSV.equals(mediaType) ? new Csv(writer) : new Ndjson(writer, objectMapper);
+    }
+
+    void write(EmployeeSummaryDto employee) {
+        try {
+            writeRow(employee);
+            if (++rows % FLUSH_EVERY_ROWS == 1) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void finish() throws IOException {
+        writer.flush();
+    }
+
+    protected abstract void writeRow(EmployeeSummaryDto employee) throws IOException;
+
+    private static final class Ndjson extends EmployeeExportWriter {
+        private final JsonGenerator generator;
+
+        Ndjson(Writer writer, ObjectMapper objectMapper) throws IOException {
+            super(writer);
+            this.generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        protected void writeRow(EmployeeSummaryDto employee) throws IOException {
+            generator.writeObject(employee);
+            generator.flush();
+            writer.write('\n');
+        }
+    }
+
+    private static final class Csv extends EmployeeExportWriter {
+        Csv(Writer writer) throws IOException {
+            super(writer);
+            writer.write("id,fullName,email,phone,address,departmentId,departmentName\n");
+        }
+
+        @Override
+        protected void writeRow(EmployeeSummaryDto employee) throws IOException {
+            writer.write(String.valueOf(employee.getId()));
+            writeField(employee.getFullName());
+            writeField(employee.getEmail());
+            writeField(employee.getPhone());
+            writeField(employee.getAddress());
+            writer.write(',');
+            if (employee.getDepartmentId() != null) {
+                writer.write(String.valueOf(employee.getDepartmentId()));
+            }
+            writeField(employee.getDepartmentName());
+            writer.write('\n');
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
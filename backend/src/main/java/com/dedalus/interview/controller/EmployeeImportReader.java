@@ -0,0 +1,158 @@
+package com.dedalus.interview.controller;
+
+import com.dedalus.interview.dto.EmployeeImportRow;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads bulk import rows one at a time from an NDJSON or CSV request body, in the same layout
+ * {@link EmployeeExportWriter} produces. Only the current row is held in memory.
+ */
+abstract class EmployeeImportReader {
+
+    protected final BufferedReader reader;
+    protected long line;
+
+    EmployeeImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static EmployeeImportReader create(String mediaType, BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        if (EmployeeExportWriter.CSV.equals(mediaType)) {
+            return new Csv(reader);
+        }
+        if (EmployeeExportWriter.NDJSON.equals(mediaType)) {
+            return new Ndjson(reader, objectMapper);
+        }
+        throw new BadRequestException("Unsupported import format: " + mediaType);
+    }
+
+    /**
+     * Returns the next row, or {@code null} at the end of the input.
+     */
+    abstract EmployeeImportRow next() throws IOException;
+
+    private static final class Ndjson extends EmployeeImportReader {
+        private final ObjectMapper objectMapper;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        EmployeeImportRow next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            try {
+                return EmployeeImportRow.of(line, objectMapper.readValue(text, EmployeeSummaryDto.class));
+            } catch (JsonProcessingException e) {
+                return EmployeeImportRow.malformed(line, "Malformed JSON");
+            }
+        }
+    }
+
+    private static final class Csv extends EmployeeImportReader {
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> header = readRecord();
+            if (header == null || !header.contains("fullName")) {
+                throw new BadRequestException("CSV header with a fullName column is required");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+        }
+
+        @Override
+        EmployeeImportRow next() throws IOException {
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isEmpty());
+
+            EmployeeSummaryDto employee = new EmployeeSummaryDto();
+            employee.setFullName(field(record, "fullName"));
+            employee.setEmail(field(record, "email"));
+            employee.setPhone(field(record, "phone"));
+            employee.setAddress(field(record, "address"));
+            String departmentId = field(record, "departmentId");
+            if (departmentId != null && !departmentId.isBlank()) {
+                try {
+                    employee.setDepartmentId(Long.parseLong(departmentId.trim()));
+                } catch (NumberFormatException e) {
+                    return EmployeeImportRow.malformed(line, "Invalid departmentId: " + departmentId);
+                }
+            }
+            return EmployeeImportRow.of(line, employee);
+        }
+
+        private String field(List<String> record, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < record.size() ? record.get(index) : null;
+        }
+
+        /**
+         * Reads one RFC 4180 record; quoted fields may contain commas, doubled quotes and line breaks.
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            line++;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c >= 0) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int nextChar = reader.read();
+                        if (nextChar == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
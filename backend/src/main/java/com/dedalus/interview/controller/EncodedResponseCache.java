@@ -0,0 +1,132 @@
+package com.dedalus.interview.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the encoded body of small, hot list responses, plus its gzip form, for as long as the data
+ * version they were built from is current. Every service write path changes that version, so a hit
+ * is a byte copy: no query, no DTOs and no Jackson. A miss rebuilds the body once for the new
+ * version.
+ *
+ * <p>The version is read before the body is built. A write that commits meanwhile changes it again
+ * on completion (see {@code DataVersionService}), so a body that may predate the commit is never
+ * served under the current version.</p>
+ */
+@ApplicationScoped
+public class EncodedResponseCache {
+
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private record Encoded(String version, byte[] identity, byte[] gzip) {
+    }
+
+    private final Map<String, Encoded> entries = new ConcurrentHashMap<>();
+    private final Map<MediaType, ObjectMapper> mappers;
+
+    @Inject
+    public EncodedResponseCache(ObjectMapper objectMapper) {
+        this.mappers = Map.of(
+                MediaType.APPLICATION_JSON_TYPE, objectMapper,
+                CborMessageBodyWriter.CBOR_TYPE, objectMapper.copyWith(new CBORFactory()));
+    }
+
+    /**
+     * Answers a GET for the resource cached under {@code key}, negotiating between the
+     * {@link ConditionalGet#JSON_OR_CBOR} encodings and gzip. {@code body} is only called when the
+     * cached body for the negotiated encoding is missing or older than {@code version}.
+     */
+    public Response respond(String key, Request request, String acceptEncoding, String version, Supplier<?> body) {
+        Variant variant = request.selectVariant(ConditionalGet.JSON_OR_CBOR);
+        if (variant == null) {
+            return Response.notAcceptable(ConditionalGet.JSON_OR_CBOR).build();
+        }
+        MediaType mediaType = variant.getMediaType();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        EntityTag tag = new EntityTag(ConditionalGet.tag(version, ConditionalGet.JSON_OR_CBOR, variant) + (gzip ? "-" + GZIP : ""));
+
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.header(HttpHeaders.VARY, VARY).cacheControl(ConditionalGet.REVALIDATE).build();
+        }
+
+        String entryKey = key + " " + mediaType;
+        Encoded encoded = entries.get(entryKey);
+        if (encoded == null || !encoded.version().equals(version)) {
+            encoded = encode(version, mappers.get(mediaType), body.get());
+            entries.put(entryKey, encoded);
+        }
+
+        Response.ResponseBuilder response = Response.ok(gzip ? encoded.gzip() : encoded.identity(), mediaType)
+                .header(HttpHeaders.VARY, VARY)
+                .tag(tag)
+                .cacheControl(ConditionalGet.REVALIDATE);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.build();
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    private static Encoded encode(String version, ObjectMapper mapper, Object body) {
+        try {
+            byte[] identity = mapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(identity);
+            }
+            return new Encoded(version, identity, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} lists gzip (or {@code *}) with a non-zero quality.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equals(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dedalus.interview.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a non-GET endpoint that does not change data, such as a POST carrying a query too large
+ * for the URL, so {@link RequestLogFilter} samples it as a read instead of auditing it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@interface ReadOnly {
+}
@@ -0,0 +1,110 @@
+package com.dedalus.interview.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes one JSON line per request in place of per-endpoint log statements. Writes go to the
+ * {@code audit} category and are always logged; reads go to {@code access} and are sampled at
+ * {@code app.log.read-sample-rate}, except for server errors. Both categories have their own
+ * asynchronous handlers (see application.properties), so the request thread only builds the line.
+ */
+@Provider
+public class RequestLogFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final Logger accessLogger = Logger.getLogger("com.dedalus.interview.access");
+    static final Logger auditLogger = Logger.getLogger("com.dedalus.interview.audit");
+
+    private static final Logger logger = Logger.getLogger(RequestLogFilter.class.getName());
+
+    private static final String STARTED_AT = RequestLogFilter.class.getName() + ".startedAt";
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "app.log.read-sample-rate", defaultValue = "0.01")
+    double readSampleRate;
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        request.setProperty(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        Object startedAt = request.getProperty(STARTED_AT);
+        if (startedAt == null) {
+            return;
+        }
+
+        boolean write = isWrite(request.getMethod()) && !readOnlyEndpoint();
+        Logger target = write ? auditLogger : accessLogger;
+        if (!target.isLoggable(Level.INFO)) {
+            return;
+        }
+        if (!write && response.getStatus() < 500 && !sampled()) {
+            return;
+        }
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("ts", Instant.now().toString());
+        line.put("type", write ? "audit" : "access");
+        line.put("method", request.getMethod());
+        line.put("path", request.getUriInfo().getRequestUri().getRawPath());
+        line.put("endpoint", endpoint());
+        line.put("status", response.getStatus());
+        line.put("durationMs", (System.nanoTime() - (Long) startedAt) / 1_000_000.0);
+        String query = request.getUriInfo().getRequestUri().getRawQuery();
+        if (query != null) {
+            line.put("query", query);
+        }
+        if (write) {
+            line.put("pathParams", request.getUriInfo().getPathParameters());
+        }
+
+        try {
+            target.info(objectMapper.writeValueAsString(line));
+        } catch (JsonProcessingException e) {
+            logger.warning("Could not write request log line: " + e.getMessage());
+        }
+    }
+
+    private boolean sampled() {
+        return readSampleRate >= 1 || (readSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < readSampleRate);
+    }
+
+    private String endpoint() {
+        Method method = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+        return method != null ? method.getDeclaringClass().getSimpleName() + "." + method.getName() : null;
+    }
+
+    private boolean readOnlyEndpoint() {
+        Method method = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+        return method != null && method.isAnnotationPresent(ReadOnly.class);
+    }
+
+    private static boolean isWrite(String method) {
+        return !HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method) && !HttpMethod.OPTIONS.equals(method);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dedalus.interview.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CacheStatisticsDto {
+    private long queryCacheHits;
+    private long queryCacheMisses;
+    private long queryCachePuts;
+    private List<Region> regions = new ArrayList<>();
+
+    public long getQueryCacheHits() {
+        return queryCacheHits;
+    }
+
+    public void setQueryCacheHits(long queryCacheHits) {
+        this.queryCacheHits = queryCacheHits;
+    }
+
+    public long getQueryCacheMisses() {
+        return queryCacheMisses;
+    }
+
+    public void setQueryCacheMisses(long queryCacheMisses) {
+        this.queryCacheMisses = queryCacheMisses;
+    }
+
+    public long getQueryCachePuts() {
+        return queryCachePuts;
+    }
+
+    public void setQueryCachePuts(long queryCachePuts) {
+        this.queryCachePuts = queryCachePuts;
+    }
+
+    public List<Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(List<Region> regions) {
+        this.regions = regions;
+    }
+
+    public static class Region {
+        private String name;
+        private long hits;
+        private long misses;
+        private long puts;
+        private long elements;
+
+        public Region() {}
+
+        public Region(String name, long hits, long misses, long puts, long elements) {
+            this.name = name;
+            this.hits = hits;
+            this.misses = misses;
+            this.puts = puts;
+            this.elements = elements;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public void setHits(long hits) {
+            this.hits = hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public void setMisses(long misses) {
+            this.misses = misses;
+        }
+
+        public long getPuts() {
+            return puts;
+        }
+
+        public void setPuts(long puts) {
+            this.puts = puts;
+        }
+
+        public long getElements() {
+            return elements;
+        }
+
+        public void setElements(long elements) {
+            this.elements = elements;
+        }
+    }
+}
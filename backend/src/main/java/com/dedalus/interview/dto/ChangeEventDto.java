@@ -0,0 +1,157 @@
+package com.dedalus.interview.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.List;
+
+/**
+ * One committed change on the {@code /api/changes} feed. Only the fields relevant to the type are
+ * set; created and updated entities carry their summary so clients can patch lists in place.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEventDto {
+
+    public enum Type {
+        /** First event of a stream whose client must reload its lists before applying changes. */
+        SYNC("sync"),
+        EMPLOYEE_CREATED("employee.created"),
+        EMPLOYEE_UPDATED("employee.updated"),
+        EMPLOYEE_DELETED("employee.deleted"),
+        EMPLOYEE_ASSIGNED("employee.assigned"),
+        EMPLOYEES_REASSIGNED("employees.reassigned"),
+        EMPLOYEES_IMPORTED("employees.imported"),
+        DEPARTMENT_CREATED("department.created"),
+        DEPARTMENT_UPDATED("department.updated"),
+        DEPARTMENT_DELETED("department.deleted");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        @JsonValue
+        public String getEventName() {
+            return eventName;
+        }
+    }
+
+    private long sequence;
+    private Type type;
+    private Long id;
+    private Long departmentId;
+    private Long fromDepartmentId;
+    private List<Long> employeeIds;
+    private Integer count;
+    private EmployeeSummaryDto employee;
+    private DepartmentSummaryDto department;
+
+    public ChangeEventDto() {}
+
+    private ChangeEventDto(Type type) {
+        this.type = type;
+    }
+
+    public static ChangeEventDto sync(long sequence) {
+        ChangeEventDto event = new ChangeEventDto(Type.SYNC);
+        event.sequence = sequence;
+        return event;
+    }
+
+    public static ChangeEventDto employeeSaved(Type type, EmployeeSummaryDto employee) {
+        ChangeEventDto event = new ChangeEventDto(type);
+        event.id = employee.getId();
+        event.departmentId = employee.getDepartmentId();
+        event.employee = employee;
+        return event;
+    }
+
+    public static ChangeEventDto employeeDeleted(Long id, Long departmentId) {
+        ChangeEventDto event = new ChangeEventDto(Type.EMPLOYEE_DELETED);
+        event.id = id;
+        event.departmentId = departmentId;
+        return event;
+    }
+
+    public static ChangeEventDto employeeAssigned(Long id, Long fromDepartmentId, Long departmentId) {
+        ChangeEventDto event = new ChangeEventDto(Type.EMPLOYEE_ASSIGNED);
+        event.id = id;
+        event.fromDepartmentId = fromDepartmentId;
+        event.departmentId = departmentId;
+        return event;
+    }
+
+    /**
+     * Either {@code employeeIds} or every employee of {@code fromDepartmentId} moved to
+     * {@code departmentId}; a {@code null} department means unassigned.
+     */
+    public static ChangeEventDto employeesReassigned(List<Long> employeeIds, Long fromDepartmentId,
+                                                     Long departmentId, int count) {
+        ChangeEventDto event = new ChangeEventDto(Type.EMPLOYEES_REASSIGNED);
+        event.employeeIds = employeeIds;
+        event.fromDepartmentId = fromDepartmentId;
+        event.departmentId = departmentId;
+        event.count = count;
+        return event;
+    }
+
+    public static ChangeEventDto employeesImported(int count) {
+        ChangeEventDto event = new ChangeEventDto(Type.EMPLOYEES_IMPORTED);
+        event.count = count;
+        return event;
+    }
+
+    public static ChangeEventDto departmentSaved(Type type, DepartmentSummaryDto department) {
+        ChangeEventDto event = new ChangeEventDto(type);
+        event.id = department.getId();
+        event.department = department;
+        return event;
+    }
+
+    public static ChangeEventDto departmentDeleted(Long id) {
+        ChangeEventDto event = new ChangeEventDto(Type.DEPARTMENT_DELETED);
+        event.id = id;
+        return event;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public Long getFromDepartmentId() {
+        return fromDepartmentId;
+    }
+
+    public List<Long> getEmployeeIds() {
+        return employeeIds;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public EmployeeSummaryDto getEmployee() {
+        return employee;
+    }
+
+    public DepartmentSummaryDto getDepartment() {
+        return department;
+    }
+}
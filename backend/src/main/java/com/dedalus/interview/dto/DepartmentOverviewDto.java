@@ -0,0 +1,42 @@
+package com.dedalus.interview.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * A department (or the unassigned bucket, with a {@code null} id) with its headcount and, when
+ * requested, its first employees in list order.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DepartmentOverviewDto {
+    private Long id;
+    private String name;
+    private int employeeCount;
+    private List<EmployeeSummaryDto> employees;
+
+    public DepartmentOverviewDto() {}
+
+    public DepartmentOverviewDto(DepartmentSummaryDto summary, List<EmployeeSummaryDto> employees) {
+        this.id = summary.getId();
+        this.name = summary.getName();
+        this.employeeCount = summary.getEmployeeCount();
+        this.employees = employees;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    public List<EmployeeSummaryDto> getEmployees() {
+        return employees;
+    }
+}
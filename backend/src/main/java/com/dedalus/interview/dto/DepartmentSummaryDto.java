@@ -9,10 +9,10 @@ public class DepartmentSummaryDto {
 
     public DepartmentSummaryDto() {}
 
-    public DepartmentSummaryDto(Department department) {
+    public DepartmentSummaryDto(Department department, int employeeCount) {
         this.id = department.getId();
         this.name = department.getName();
-        this.employeeCount = department.getEmployeeCount();
+        this.employeeCount = employeeCount;
     }
 
     public DepartmentSummaryDto(Long id, String name, int employeeCount) {
@@ -0,0 +1,53 @@
+package com.dedalus.interview.dto;
+
+import jakarta.ws.rs.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the (fullName, id) ordering of employee lists. Encoded as an opaque URL-safe token
+ * so clients pass it back verbatim in the {@code after} query parameter.
+ */
+public class EmployeeCursor {
+    private final String fullName;
+    private final Long id;
+
+    public EmployeeCursor(String fullName, Long id) {
+        this.fullName = fullName;
+        this.id = id;
+    }
+
+    public static EmployeeCursor of(EmployeeSummaryDto employee) {
+        return new EmployeeCursor(employee.getFullName(), employee.getId());
+    }
+
+    public static EmployeeCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return new EmployeeCursor(decoded.substring(separator + 1), Long.parseLong(decoded.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = id + ":" + fullName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
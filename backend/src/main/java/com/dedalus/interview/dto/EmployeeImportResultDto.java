@@ -0,0 +1,79 @@
+package com.dedalus.interview.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EmployeeImportResultDto {
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private int imported;
+    private int rejected;
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * Adds the outcome of one imported chunk. Only the first {@link #MAX_REPORTED_ERRORS} errors
+     * are kept so the report stays small for large files.
+     */
+    public void addChunk(int rows, List<RowError> chunkErrors) {
+        imported += rows - chunkErrors.size();
+        rejected += chunkErrors.size();
+        for (RowError error : chunkErrors) {
+            if (errors.size() == MAX_REPORTED_ERRORS) {
+                break;
+            }
+            errors.add(error);
+        }
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public static class RowError {
+        private long line;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dedalus.interview.dto;
+
+/**
+ * One parsed line of a bulk import. Rows that could not be parsed carry an error instead of an
+ * employee so they can be reported with their line number.
+ */
+public class EmployeeImportRow {
+    private final long line;
+    private final EmployeeSummaryDto employee;
+    private final String error;
+
+    private EmployeeImportRow(long line, EmployeeSummaryDto employee, String error) {
+        this.line = line;
+        this.employee = employee;
+        this.error = error;
+    }
+
+    public static EmployeeImportRow of(long line, EmployeeSummaryDto employee) {
+        return new EmployeeImportRow(line, employee, null);
+    }
+
+    public static EmployeeImportRow malformed(long line, String error) {
+        return new EmployeeImportRow(line, null, error);
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public EmployeeSummaryDto getEmployee() {
+        return employee;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
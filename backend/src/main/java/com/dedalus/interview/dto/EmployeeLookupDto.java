@@ -0,0 +1,24 @@
+package com.dedalus.interview.dto;
+
+import java.util.List;
+
+/**
+ * Ids to resolve in one batch read.
+ */
+public class EmployeeLookupDto {
+    private List<Long> ids;
+
+    public EmployeeLookupDto() {}
+
+    public EmployeeLookupDto(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dedalus.interview.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome for one requested id: the employee when found, otherwise {@code found = false}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeLookupResultDto {
+    private Long id;
+    private boolean found;
+    private EmployeeSummaryDto employee;
+
+    public EmployeeLookupResultDto() {}
+
+    public EmployeeLookupResultDto(Long id, EmployeeSummaryDto employee) {
+        this.id = id;
+        this.found = employee != null;
+        this.employee = employee;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public EmployeeSummaryDto getEmployee() {
+        return employee;
+    }
+}
@@ -0,0 +1,50 @@
+package com.dedalus.interview.dto;
+
+import java.util.List;
+
+/**
+ * One page of an employee list plus the cursor of the following page, or {@code null} when the
+ * page is the last one. A limit of 0 means the list is not paginated.
+ */
+public class EmployeePage {
+    public static final int MAX_LIMIT = 1000;
+
+    private final List<EmployeeSummaryDto> items;
+    private final String nextCursor;
+
+    public EmployeePage(List<EmployeeSummaryDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Number of rows to fetch for a page of the given size: one extra row tells whether a next
+     * page exists without issuing a count query.
+     */
+    public static int fetchSize(int limit) {
+        return limit > 0 ? Math.min(limit, MAX_LIMIT) + 1 : 0;
+    }
+
+    /**
+     * Builds a page from rows fetched with {@link #fetchSize(int)}.
+     */
+    public static EmployeePage of(List<EmployeeSummaryDto> rows, int limit) {
+        if (limit <= 0) {
+            return new EmployeePage(rows, null);
+        }
+        int pageSize = Math.min(limit, MAX_LIMIT);
+        if (rows.size() <= pageSize) {
+            return new EmployeePage(rows, null);
+        }
+        List<EmployeeSummaryDto> items = rows.subList(0, pageSize);
+        return new EmployeePage(items, EmployeeCursor.of(items.get(pageSize - 1)).encode());
+    }
+
+    public List<EmployeeSummaryDto> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.dedalus.interview.dto;
+
+import java.util.List;
+
+/**
+ * Selects the employees of a bulk reassignment: either an explicit id list or every employee of
+ * a source department.
+ */
+public class EmployeeReassignmentDto {
+    private List<Long> employeeIds;
+    private Long fromDepartmentId;
+
+    public EmployeeReassignmentDto() {}
+
+    public EmployeeReassignmentDto(List<Long> employeeIds, Long fromDepartmentId) {
+        this.employeeIds = employeeIds;
+        this.fromDepartmentId = fromDepartmentId;
+    }
+
+    public List<Long> getEmployeeIds() {
+        return employeeIds;
+    }
+
+    public void setEmployeeIds(List<Long> employeeIds) {
+        this.employeeIds = employeeIds;
+    }
+
+    public Long getFromDepartmentId() {
+        return fromDepartmentId;
+    }
+
+    public void setFromDepartmentId(Long fromDepartmentId) {
+        this.fromDepartmentId = fromDepartmentId;
+    }
+}
@@ -0,0 +1,49 @@
+package com.dedalus.interview.dto;
+
+public class EmployeeSuggestionDto {
+    private Long id;
+    private String fullName;
+    private String email;
+    private Long departmentId;
+
+    public EmployeeSuggestionDto() {}
+
+    public EmployeeSuggestionDto(Long id, String fullName, String email, Long departmentId) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+        this.departmentId = departmentId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+}
@@ -1,8 +1,108 @@
 package com.dedalus.interview.dto;
 
 import com.dedalus.interview.entity.Employee;
-
+import com.fasterxml.jackson.annotation.JsonFilter;
+import jakarta.ws.rs.BadRequestException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Employee row of the list endpoints. A summary built from a sparse fieldset only carries the
+ * {@link Field fields} it was selected with; the others are left out of the JSON rather than
+ * written as {@code null} (see {@link #FIELDS_FILTER}).
+ */
+@JsonFilter(EmployeeSummaryDto.FIELDS_FILTER)
 public class EmployeeSummaryDto {
+
+    /** Jackson filter id under which {@link #isIncluded(String)} decides which properties are written. */
+    public static final String FIELDS_FILTER = "employeeSummaryFields";
+
+    public enum Field {
+        ID("id"),
+        FULL_NAME("fullName"),
+        EMAIL("email"),
+        PHONE("phone"),
+        ADDRESS("address"),
+        DEPARTMENT_ID("departmentId"),
+        DEPARTMENT_NAME("departmentName");
+
+        private final String property;
+
+        Field(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        static Field ofProperty(String property) {
+            return BY_PROPERTY.get(property);
+        }
+
+        private static final Map<String, Field> BY_PROPERTY = new HashMap<>();
+
+        static {
+            for (Field field : values()) {
+                BY_PROPERTY.put(field.property, field);
+            }
+        }
+    }
+
+    public static final Set<Field> ALL_FIELDS = Collections.unmodifiableSet(EnumSet.allOf(Field.class));
+
+    /**
+     * Parses a {@code fields} query parameter such as {@code fullName,departmentName}. The id and
+     * full name are always included because list ordering and cursors depend on them; a missing or
+     * blank parameter selects every field.
+     */
+    public static Set<Field> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL_FIELDS;
+        }
+        Set<Field> selected = EnumSet.of(Field.ID, Field.FULL_NAME);
+        for (String property : fields.split(",")) {
+            if (property.isBlank()) {
+                continue;
+            }
+            Field field = Field.ofProperty(property.trim());
+            if (field == null) {
+                throw new BadRequestException("Unknown employee field: " + property.trim());
+            }
+            selected.add(field);
+        }
+        return selected.size() == ALL_FIELDS.size() ? ALL_FIELDS : Collections.unmodifiableSet(selected);
+    }
+
+    /**
+     * Builds a summary from a projection row holding the values of {@code fields} in
+     * {@link Field} declaration order.
+     */
+    public static EmployeeSummaryDto project(Set<Field> fields, Object[] row) {
+        EmployeeSummaryDto summary = new EmployeeSummaryDto();
+        summary.fields = fields;
+        int column = 0;
+        for (Field field : fields) {
+            Object value = row[column++];
+            switch (field) {
+                case ID -> summary.id = (Long) value;
+                case FULL_NAME -> summary.fullName = (String) value;
+                case EMAIL -> summary.email = (String) value;
+                case PHONE -> summary.phone = (String) value;
+                case ADDRESS -> summary.address = (String) value;
+                case DEPARTMENT_ID -> summary.departmentId = (Long) value;
+                case DEPARTMENT_NAME -> summary.departmentName = value != null ? (String) value : "Unassigned";
+            }
+        }
+        return summary;
+    }
+
+    private Set<Field> fields = ALL_FIELDS;
+
     private Long id;
     private String fullName;
     private String email;
@@ -23,6 +123,17 @@ public class EmployeeSummaryDto {
         this.departmentName = employee.getDepartmentName();
     }
 
+    public EmployeeSummaryDto(Long id, String fullName, String email, String phone, String address,
+                              Long departmentId, String departmentName) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+        this.phone = phone;
+        this.address = address;
+        this.departmentId = departmentId;
+        this.departmentName = departmentName != null ? departmentName : "Unassigned";
+    }
+
     public Long getId() {
         return id;
     }
@@ -78,4 +189,15 @@ public class EmployeeSummaryDto {
     public void setDepartmentName(String departmentName) {
         this.departmentName = departmentName;
     }
-}
\ No newline at end of file
+
+    /**
+     * Whether the JSON property {@code property} belongs to the fields this summary was built with.
+     */
+    public boolean isIncluded(String property) {
+        if (fields == ALL_FIELDS) {
+            return true;
+        }
+        Field field = Field.ofProperty(property);
+        return field == null || fields.contains(field);
+    }
+}
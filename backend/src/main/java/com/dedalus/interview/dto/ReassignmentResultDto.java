@@ -0,0 +1,19 @@
+package com.dedalus.interview.dto;
+
+public class ReassignmentResultDto {
+    private int updated;
+
+    public ReassignmentResultDto() {}
+
+    public ReassignmentResultDto(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+}
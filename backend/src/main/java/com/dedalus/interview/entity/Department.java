@@ -10,10 +10,12 @@ import java.util.List;
 
 @Entity
 @Table(name = "departments")
+@Cacheable
 public class Department {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_id_seq")
+    @SequenceGenerator(name = "departments_id_seq", sequenceName = "departments_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Department name is required")
@@ -65,10 +67,6 @@ public class Department {
         employee.setDepartment(null);
     }
 
-    public int getEmployeeCount() {
-        return employees.size();
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
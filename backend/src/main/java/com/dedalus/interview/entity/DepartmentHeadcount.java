@@ -0,0 +1,45 @@
+package com.dedalus.interview.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Number of employees in a department, kept apart from the cached {@link Department} entity so
+ * that the frequent headcount updates do not invalidate its second-level cache region.
+ */
+@Entity
+@Table(name = "department_headcounts")
+public class DepartmentHeadcount {
+
+    @Id
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "department_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Department department;
+
+    @Column(name = "employee_count", nullable = false)
+    private int employeeCount;
+
+    public DepartmentHeadcount() {}
+
+    public DepartmentHeadcount(Department department, int employeeCount) {
+        this.department = department;
+        this.employeeCount = employeeCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    public void setEmployeeCount(int employeeCount) {
+        this.employeeCount = employeeCount;
+    }
+}
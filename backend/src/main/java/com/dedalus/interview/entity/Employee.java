@@ -1,5 +1,6 @@
 package com.dedalus.interview.entity;
 
+import com.dedalus.interview.service.EmployeeSuggestionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -7,16 +8,21 @@ import jakarta.validation.constraints.Size;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = @Index(name = Employee.EMAIL_INDEX, columnList = "email", unique = true))
+@EntityListeners(EmployeeSuggestionListener.class)
 public class Employee {
 
+    /** Unique index on {@code email}, created by V6 and named in constraint violations. */
+    public static final String EMAIL_INDEX = "uq_employees_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_id_seq")
+    @SequenceGenerator(name = "employees_id_seq", sequenceName = "employees_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Full name is required")
     @Size(min = 1, max = 100, message = "Full name must be between 1 and 100 characters")
-    @Column(nullable = false, length = 100)
+    @Column(name = "full_name", nullable = false, length = 100)
     private String fullName;
 
     @Size(max = 255, message = "Address must not exceed 255 characters")
@@ -0,0 +1,39 @@
+package com.dedalus.interview.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row table holding the number of employees without a department, maintained alongside
+ * the {@link DepartmentHeadcount} rows.
+ */
+@Entity
+@Table(name = "unassigned_counter")
+public class UnassignedCounter {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "employee_count", nullable = false)
+    private int employeeCount;
+
+    public UnassignedCounter() {}
+
+    public UnassignedCounter(int employeeCount) {
+        this.id = ID;
+        this.employeeCount = employeeCount;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    public void setEmployeeCount(int employeeCount) {
+        this.employeeCount = employeeCount;
+    }
+}
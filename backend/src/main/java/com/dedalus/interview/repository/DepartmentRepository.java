@@ -1,11 +1,19 @@
 package com.dedalus.interview.repository;
 
+import com.dedalus.interview.dto.DepartmentSummaryDto;
 import com.dedalus.interview.entity.Department;
+import com.dedalus.interview.entity.DepartmentHeadcount;
+import com.dedalus.interview.entity.UnassignedCounter;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @ApplicationScoped
 public class DepartmentRepository implements PanacheRepository<Department> {
@@ -14,8 +22,96 @@ public class DepartmentRepository implements PanacheRepository<Department> {
         return find("name", name).firstResultOptional();
     }
 
-    public List<Department> findAllWithEmployeeCounts() {
-        return find("SELECT d FROM Department d LEFT JOIN FETCH d.employees").list();
+    /**
+     * Returns one summary row per department plus the "Unassigned" bucket from the maintained
+     * headcounts, so the cost grows with the number of departments, not employees. No entities are
+     * loaded; the bucket is omitted when empty. The result is held in the query cache until a
+     * department or headcount changes.
+     */
+    public List<DepartmentSummaryDto> findAllSummaries() {
+        List<Object[]> rows = getEntityManager().createQuery(
+                "SELECT 0, d.id, d.name, COALESCE(h.employeeCount, 0) FROM Department d " +
+                "LEFT JOIN DepartmentHeadcount h ON h.id = d.id " +
+                "UNION ALL " +
+                "SELECT 1, CAST(NULL AS Long), 'Unassigned', u.employeeCount FROM UnassignedCounter u " +
+                "ORDER BY 1, 2", Object[].class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+
+        List<DepartmentSummaryDto> summaries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = (Long) row[1];
+            int employeeCount = ((Number) row[3]).intValue();
+            if (id == null && employeeCount == 0) {
+                continue;
+            }
+            summaries.add(new DepartmentSummaryDto(id, (String) row[2], employeeCount));
+        }
+        return summaries;
+    }
+
+    public int findEmployeeCount(Long departmentId) {
+        DepartmentHeadcount headcount = getEntityManager().find(DepartmentHeadcount.class, departmentId);
+        return headcount != null ? headcount.getEmployeeCount() : 0;
+    }
+
+    /**
+     * Starts the headcount of a newly persisted department at zero.
+     */
+    public void createHeadcount(Department department) {
+        getEntityManager().persist(new DepartmentHeadcount(department, 0));
+    }
+
+    /**
+     * Adds {@code delta} to the headcount of a department, or of the unassigned employees when
+     * {@code departmentId} is {@code null}. The relative UPDATE is safe under concurrent writers.
+     * It is native SQL synchronized on the counter table alone, so Hibernate invalidates only the
+     * cached queries reading that table and leaves the department cache region intact.
+     */
+    public void adjustEmployeeCount(Long departmentId, int delta) {
+        if (departmentId == null) {
+            getEntityManager().createNativeQuery(
+                    "UPDATE unassigned_counter SET employee_count = employee_count + :delta")
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedEntityClass(UnassignedCounter.class)
+                    .setParameter("delta", delta)
+                    .executeUpdate();
+        } else {
+            getEntityManager().createNativeQuery(
+                    "UPDATE department_headcounts SET employee_count = employee_count + :delta " +
+                    "WHERE department_id = :departmentId")
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedEntityClass(DepartmentHeadcount.class)
+                    .setParameter("delta", delta)
+                    .setParameter("departmentId", departmentId)
+                    .executeUpdate();
+        }
+    }
+
+    /**
+     * Returns the departments whose headcount is missing or no longer matches the employees table,
+     * with a single aggregate statement.
+     */
+    public List<Long> findIdsWithDriftedEmployeeCount() {
+        return getEntityManager().createQuery(
+                "SELECT d.id FROM Department d LEFT JOIN DepartmentHeadcount h ON h.id = d.id " +
+                "LEFT JOIN d.employees e " +
+                "GROUP BY d.id, h.id, h.employeeCount HAVING h.id IS NULL OR h.employeeCount <> COUNT(e.id)", Long.class)
+                .getResultList();
+    }
+
+    public Set<Long> findAllIds() {
+        return new HashSet<>(getEntityManager().createQuery("SELECT d.id FROM Department d", Long.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList());
+    }
+
+    /**
+     * Returns an uninitialized proxy for a department known to exist, for setting associations
+     * without loading the row.
+     */
+    public Department getReference(Long id) {
+        return getEntityManager().getReference(Department.class, id);
     }
 
     public boolean existsByName(String name) {
@@ -1,43 +1,275 @@
 package com.dedalus.interview.repository;
 
+import com.dedalus.interview.dto.EmployeeCursor;
+import com.dedalus.interview.dto.EmployeeSuggestionDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto.Field;
+import com.dedalus.interview.entity.Department;
 import com.dedalus.interview.entity.Employee;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class EmployeeRepository implements PanacheRepository<Employee> {
 
-    public List<Employee> findByDepartmentId(Long departmentId) {
-        if (departmentId == null) {
-            return find("department IS NULL").list();
+    /**
+     * Selects summary rows directly, joining the department name in the same statement so no
+     * Employee or Department entity is hydrated.
+     */
+    private static final String SUMMARY_SELECT =
+            "SELECT new com.dedalus.interview.dto.EmployeeSummaryDto(" +
+            "e.id, e.fullName, e.email, e.phone, e.address, d.id, d.name) " +
+            "FROM Employee e LEFT JOIN e.department d";
+
+    private static final String SUMMARY_ORDER = " ORDER BY e.fullName, e.id";
+
+    /**
+     * Column of each summary field in a sparse projection. The department id is read from the
+     * foreign key, so only the department name needs the join.
+     */
+    private static final Map<Field, String> FIELD_COLUMNS = new EnumMap<>(Map.of(
+            Field.ID, "e.id",
+            Field.FULL_NAME, "e.fullName",
+            Field.EMAIL, "e.email",
+            Field.PHONE, "e.phone",
+            Field.ADDRESS, "e.address",
+            Field.DEPARTMENT_ID, "e.department.id",
+            Field.DEPARTMENT_NAME, "d.name"));
+
+    private static final int IN_LIST_CHUNK_SIZE = 1000;
+
+    /**
+     * Moves the given employees to {@code department} (or unassigned when {@code null}) with one
+     * UPDATE per {@value #IN_LIST_CHUNK_SIZE} ids. Returns the number of rows changed.
+     */
+    public int reassign(List<Long> employeeIds, Department department) {
+        int updated = 0;
+        for (int from = 0; from < employeeIds.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Long> chunk = employeeIds.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, employeeIds.size()));
+            updated += update("department = ?1 WHERE id IN ?2", department, chunk);
+        }
+        return updated;
+    }
+
+    /**
+     * Locks the given employees and returns how many of them are in each department ({@code null}
+     * for unassigned), so a set-based move can adjust the headcounts exactly. Only the ids and
+     * department ids are selected, so no entities are loaded. Rows are locked in id order to avoid
+     * deadlocks between overlapping moves; {@code employeeIds} must not contain duplicates.
+     */
+    public Map<Long, Integer> lockDepartmentCounts(List<Long> employeeIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int from = 0; from < employeeIds.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Long> chunk = employeeIds.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, employeeIds.size()));
+            List<Object[]> rows = getEntityManager().createQuery(
+                    "SELECT e.id, e.department.id FROM Employee e WHERE e.id IN :ids ORDER BY e.id", Object[].class)
+                    .setParameter("ids", chunk)
+                    .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .getResultList();
+            for (Object[] row : rows) {
+                counts.merge((Long) row[1], 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Moves every employee of a department to {@code department} (or unassigned when {@code null})
+     * with a single UPDATE.
+     */
+    public int reassignDepartment(Long fromDepartmentId, Department department) {
+        return update("department = ?1 WHERE department.id = ?2", department, fromDepartmentId);
+    }
+
+    /**
+     * Returns the summaries of the given employees, keyed by id, with one IN query (joining the
+     * department) per {@value #IN_LIST_CHUNK_SIZE} ids. Unknown ids are absent from the map.
+     */
+    public Map<Long, EmployeeSummaryDto> findSummariesByIds(Collection<Long> employeeIds) {
+        List<Long> ids = new ArrayList<>(employeeIds);
+        Map<Long, EmployeeSummaryDto> summaries = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, ids.size()));
+            getEntityManager().createQuery(SUMMARY_SELECT + " WHERE e.id IN :ids", EmployeeSummaryDto.class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(summary -> summaries.put(summary.getId(), summary));
+        }
+        return summaries;
+    }
+
+    public List<EmployeeSummaryDto> findAllSummaries(EmployeeCursor after, int limit, Set<Field> fields) {
+        return summaries(new ArrayList<>(), new HashMap<>(), after, limit, fields);
+    }
+
+    public List<EmployeeSummaryDto> findSummariesByDepartmentId(Long departmentId, EmployeeCursor after, int limit,
+                                                                Set<Field> fields) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        addDepartmentCondition(conditions, params, departmentId);
+        return summaries(conditions, params, after, limit, fields);
+    }
+
+    public List<EmployeeSummaryDto> findSummariesByFullNameContainingIgnoreCase(String name, EmployeeCursor after, int limit,
+                                                                                Set<Field> fields) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        addNameCondition(conditions, params, name);
+        return summaries(conditions, params, after, limit, fields);
+    }
+
+    public List<EmployeeSummaryDto> findSummariesByDepartmentIdAndFullNameContainingIgnoreCase(Long departmentId, String name,
+                                                                                              EmployeeCursor after, int limit,
+                                                                                              Set<Field> fields) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        addDepartmentCondition(conditions, params, departmentId);
+        addNameCondition(conditions, params, name);
+        return summaries(conditions, params, after, limit, fields);
+    }
+
+    /**
+     * Returns the first {@code perDepartment} employees of every department in list order, keyed by
+     * department id ({@code null} for unassigned), with one windowed query however many departments
+     * there are.
+     */
+    public Map<Long, List<EmployeeSummaryDto>> findFirstSummariesPerDepartment(int perDepartment, Set<Field> fields) {
+        List<String> columns = new ArrayList<>(fields.size() + 1);
+        List<String> selected = new ArrayList<>(fields.size() + 1);
+        for (Field field : fields) {
+            if (field == Field.DEPARTMENT_ID) {
+                // The department id is already selected as groupId; selecting it twice breaks the aliases
+                selected.add("r.groupId");
+            } else {
+                columns.add(FIELD_COLUMNS.get(field) + " AS " + field.getProperty());
+                selected.add("r." + field.getProperty());
+            }
+        }
+        String ranked = "SELECT " + String.join(", ", columns) + ", e.department.id AS groupId, " +
+                "ROW_NUMBER() OVER (PARTITION BY e.department.id ORDER BY e.fullName, e.id) AS position " +
+                "FROM Employee e" + (fields.contains(Field.DEPARTMENT_NAME) ? " LEFT JOIN e.department d" : "");
+        List<Object[]> rows = getEntityManager().createQuery(
+                "SELECT " + String.join(", ", selected) + ", r.groupId FROM (" + ranked + ") r " +
+                "WHERE r.position <= :perDepartment ORDER BY r.position", Object[].class)
+                .setParameter("perDepartment", (long) perDepartment)
+                .getResultList();
+
+        Map<Long, List<EmployeeSummaryDto>> byDepartment = new HashMap<>();
+        for (Object[] row : rows) {
+            byDepartment.computeIfAbsent((Long) row[fields.size()], id -> new ArrayList<>())
+                    .add(EmployeeSummaryDto.project(fields, row));
         }
-        return find("department.id", departmentId).list();
+        return byDepartment;
     }
 
-    public List<Employee> findByFullNameContainingIgnoreCase(String name) {
-        return find("LOWER(fullName) LIKE LOWER(?1)", "%" + name + "%").list();
+    /**
+     * Streams every employee summary in list order, fetching {@code fetchSize} rows per round trip.
+     * Must be consumed inside a transaction so PostgreSQL uses a server-side cursor.
+     */
+    public Stream<EmployeeSummaryDto> streamAllSummaries(int fetchSize) {
+        return getEntityManager().createQuery(SUMMARY_SELECT + SUMMARY_ORDER, EmployeeSummaryDto.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
     }
 
-    public List<Employee> findUnassigned() {
-        return find("department IS NULL").list();
+    public List<EmployeeSuggestionDto> findAllSuggestions() {
+        return getEntityManager().createQuery(
+                "SELECT new com.dedalus.interview.dto.EmployeeSuggestionDto(e.id, e.fullName, e.email, e.department.id) " +
+                "FROM Employee e", EmployeeSuggestionDto.class)
+                .getResultList();
     }
 
-    public List<Employee> findByDepartmentIdAndFullNameContainingIgnoreCase(Long departmentId, String name) {
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(getEntityManager()
+                .createQuery("SELECT e.email FROM Employee e WHERE e.email IN :emails", String.class)
+                .setParameter("emails", emails)
+                .getResultList());
+    }
+
+    private void addDepartmentCondition(List<String> conditions, Map<String, Object> params, Long departmentId) {
         if (departmentId == null) {
-            return find("department IS NULL AND LOWER(fullName) LIKE LOWER(?1)", "%" + name + "%").list();
+            conditions.add("e.department.id IS NULL");
+        } else {
+            conditions.add("e.department.id = :departmentId");
+            params.put("departmentId", departmentId);
+        }
+    }
+
+    /**
+     * Matches {@code lower(full_name)} against an already lower-cased pattern so the predicate has
+     * exactly the shape of the PostgreSQL trigram index. LIKE wildcards typed by the user are
+     * escaped and matched literally.
+     */
+    private void addNameCondition(List<String> conditions, Map<String, Object> params, String name) {
+        conditions.add("LOWER(e.fullName) LIKE :name ESCAPE '!'");
+        params.put("name", containsPattern(name));
+    }
+
+    private static String containsPattern(String name) {
+        String escaped = name.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * Runs the summary query in (fullName, id) order. When a cursor is given, a seek predicate
+     * starts the page right after it, so deep pages cost the same as the first one.
+     * A limit of 0 returns every matching row. A sparse {@code fields} set selects only those
+     * columns, and joins the department only when its name is requested.
+     */
+    private List<EmployeeSummaryDto> summaries(List<String> conditions, Map<String, Object> params,
+                                               EmployeeCursor after, int limit, Set<Field> fields) {
+        if (after != null) {
+            conditions.add("(e.fullName > :afterName OR (e.fullName = :afterName AND e.id > :afterId))");
+            params.put("afterName", after.getFullName());
+            params.put("afterId", after.getId());
+        }
+
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        if (fields == EmployeeSummaryDto.ALL_FIELDS) {
+            return page(getEntityManager().createQuery(SUMMARY_SELECT + where + SUMMARY_ORDER, EmployeeSummaryDto.class),
+                    params, limit);
         }
-        return find("department.id = ?1 AND LOWER(fullName) LIKE LOWER(?2)", departmentId, "%" + name + "%").list();
+        return page(getEntityManager().createQuery(projectionSelect(fields) + where + SUMMARY_ORDER, Object[].class),
+                params, limit).stream()
+                .map(row -> EmployeeSummaryDto.project(fields, row))
+                .toList();
     }
 
-    public boolean existsByEmailExcludingId(String email, Long excludeId) {
-        if (email == null || email.trim().isEmpty()) {
-            return false;
+    private static <T> List<T> page(TypedQuery<T> query, Map<String, Object> params, int limit) {
+        params.forEach(query::setParameter);
+        if (limit > 0) {
+            query.setMaxResults(limit);
         }
-        if (excludeId == null) {
-            return count("email = ?1", email.trim()) > 0;
+        return query.getResultList();
+    }
+
+    private static String projectionSelect(Set<Field> fields) {
+        List<String> columns = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            columns.add(FIELD_COLUMNS.get(field));
         }
-        return count("email = ?1 AND id != ?2", email.trim(), excludeId) > 0;
+        return "SELECT " + String.join(", ", columns) + " FROM Employee e" +
+                (fields.contains(Field.DEPARTMENT_NAME) ? " LEFT JOIN e.department d" : "");
     }
-}
\ No newline at end of file
+}
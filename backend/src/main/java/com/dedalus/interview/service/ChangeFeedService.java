@@ -0,0 +1,172 @@
+package com.dedalus.interview.service;
+
+import com.dedalus.interview.dto.ChangeEventDto;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Numbers committed {@link ChangeEventDto changes} and hands them to the subscribers of
+ * {@code /api/changes}. The last {@code app.changes.buffer-size} changes are kept so a reconnecting
+ * client can resume after the last sequence it saw; older or unknown sequences get a
+ * {@link ChangeEventDto.Type#SYNC} instead.
+ *
+ * <p>Sequences start from the startup time in microseconds, so ids from a previous run are lower
+ * than anything this run has buffered and are never mistaken for a resumable position.</p>
+ *
+ * <p>Numbering and buffering take a {@link ReentrantLock} rather than a monitor, and subscribers
+ * are called after it is released, so publishing from a virtual thread never pins its carrier.</p>
+ */
+@ApplicationScoped
+public class ChangeFeedService {
+
+    private static final Object PENDING = ChangeFeedService.class.getName() + ".pending";
+
+    private final Lock lock = new ReentrantLock();
+    private final NavigableMap<Long, ChangeEventDto> recent = new TreeMap<>();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private long lastSequence = System.currentTimeMillis() * 1000;
+
+    @ConfigProperty(name = "app.changes.buffer-size", defaultValue = "1000")
+    int bufferSize;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    /**
+     * Records a change of the current transaction. Changes are published in the order recorded,
+     * together, once the transaction has committed; rolled-back changes are never seen.
+     */
+    @SuppressWarnings("unchecked")
+    public void record(ChangeEventDto change) {
+        if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            publish(List.of(change));
+            return;
+        }
+        List<ChangeEventDto> pending = (List<ChangeEventDto>) transactionRegistry.getResource(PENDING);
+        if (pending == null) {
+            List<ChangeEventDto> changes = new ArrayList<>();
+            transactionRegistry.putResource(PENDING, changes);
+            transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == Status.STATUS_COMMITTED) {
+                        publish(changes);
+                    }
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    void publish(List<ChangeEventDto> changes) {
+        List<Subscription> targets;
+        lock.lock();
+        try {
+            for (ChangeEventDto change : changes) {
+                change.setSequence(++lastSequence);
+                recent.put(change.getSequence(), change);
+                subscriptions.forEach(subscription -> subscription.queue.add(change));
+            }
+            while (recent.size() > bufferSize) {
+                recent.pollFirstEntry();
+            }
+            targets = List.copyOf(subscriptions);
+        } finally {
+            lock.unlock();
+        }
+        targets.forEach(Subscription::deliver);
+    }
+
+    /**
+     * Registers {@code subscriber} for every change after sequence {@code after}. Buffered changes
+     * are replayed first; without a resumable {@code after} the subscriber gets a SYNC carrying the
+     * current sequence instead. Subscribers are called outside the feed lock, one change at a time
+     * and in sequence order, but possibly from different threads; they must not block.
+     */
+    public void subscribe(Long after, Consumer<ChangeEventDto> subscriber) {
+        Subscription subscription = new Subscription(subscriber);
+        lock.lock();
+        try {
+            if (after != null && after <= lastSequence && after >= oldestResumable()) {
+                subscription.queue.addAll(recent.tailMap(after, false).values());
+            } else {
+                subscription.queue.add(ChangeEventDto.sync(lastSequence));
+            }
+            subscriptions.add(subscription);
+        } finally {
+            lock.unlock();
+        }
+        subscription.deliver();
+    }
+
+    public void unsubscribe(Consumer<ChangeEventDto> subscriber) {
+        lock.lock();
+        try {
+            subscriptions.removeIf(subscription -> subscription.subscriber.equals(subscriber));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long oldestResumable() {
+        return recent.isEmpty() ? lastSequence : recent.firstKey() - 1;
+    }
+
+    /**
+     * Changes queued for one subscriber in sequence order under the feed lock, and handed over
+     * outside it by whichever thread finds the queue idle, so concurrent publishers never call the
+     * same subscriber twice at once or out of order.
+     */
+    private static class Subscription {
+
+        private final Consumer<ChangeEventDto> subscriber;
+        private final Queue<ChangeEventDto> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean delivering = new AtomicBoolean();
+
+        Subscription(Consumer<ChangeEventDto> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void deliver() {
+            while (!queue.isEmpty() && delivering.compareAndSet(false, true)) {
+                try {
+                    ChangeEventDto change;
+                    while ((change = queue.poll()) != null) {
+                        subscriber.accept(change);
+                    }
+                } finally {
+                    delivering.set(false);
+                }
+            }
+        }
+    }
+}
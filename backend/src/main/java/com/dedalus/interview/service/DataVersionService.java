@@ -0,0 +1,100 @@
+package com.dedalus.interview.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap data versions used as ETags for the read endpoints. A global version changes on every
+ * write; per-department versions change only when that department's employee list may have
+ * changed. Versions start from a random epoch so tags from a previous run never match.
+ *
+ * <p>Writers bump versions both immediately and again when their transaction completes, so a read
+ * that runs concurrently with a commit can never keep serving pre-commit data under the current
+ * tag.</p>
+ */
+@ApplicationScoped
+public class DataVersionService {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+    private final AtomicLong global = new AtomicLong();
+    private final AtomicLong everyDepartment = new AtomicLong();
+    private final AtomicLong unassigned = new AtomicLong();
+    private final Map<Long, AtomicLong> departments = new ConcurrentHashMap<>();
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    /**
+     * Version of data that depends on every employee and department.
+     */
+    public String globalVersion() {
+        return epoch + "-" + global.get();
+    }
+
+    /**
+     * Version of the employee list of one department, or of the unassigned employees when
+     * {@code departmentId} is {@code null}.
+     */
+    public String departmentVersion(Long departmentId) {
+        return epoch + "-" + everyDepartment.get() + "-" + counter(departmentId).get();
+    }
+
+    /**
+     * Records a write affecting the employees of the given departments ({@code null} meaning
+     * unassigned). Without arguments only the global version changes.
+     */
+    public void changed(Long... departmentIds) {
+        bump(departmentIds);
+        afterCompletion(() -> bump(departmentIds));
+    }
+
+    /**
+     * Records a write whose affected departments are not known, such as a bulk move by id list.
+     */
+    public void changedEverywhere() {
+        everyDepartment.incrementAndGet();
+        global.incrementAndGet();
+        afterCompletion(() -> {
+            everyDepartment.incrementAndGet();
+            global.incrementAndGet();
+        });
+    }
+
+    private void bump(Long[] departmentIds) {
+        for (Long departmentId : departmentIds) {
+            counter(departmentId).incrementAndGet();
+        }
+        global.incrementAndGet();
+    }
+
+    private AtomicLong counter(Long departmentId) {
+        if (departmentId == null) {
+            return unassigned;
+        }
+        return departments.computeIfAbsent(departmentId, id -> new AtomicLong());
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            return;
+        }
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
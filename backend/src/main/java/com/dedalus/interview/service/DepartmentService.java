@@ -1,9 +1,15 @@
 package com.dedalus.interview.service;
 
+import com.dedalus.interview.config.MetricsConfig;
+import com.dedalus.interview.dto.ChangeEventDto;
+import com.dedalus.interview.dto.DepartmentOverviewDto;
+import com.dedalus.interview.dto.DepartmentSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto.Field;
 import com.dedalus.interview.entity.Department;
-import com.dedalus.interview.entity.Employee;
 import com.dedalus.interview.repository.DepartmentRepository;
 import com.dedalus.interview.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -11,9 +17,12 @@ import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 @ApplicationScoped
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class DepartmentService {
 
     private static final Logger logger = Logger.getLogger(DepartmentService.class.getName());
@@ -24,26 +33,60 @@ public class DepartmentService {
     @Inject
     EmployeeRepository employeeRepository;
 
-    public List<Department> getAllDepartments() {
-        logger.info("Fetching all departments with employee counts");
-        return departmentRepository.findAllWithEmployeeCounts();
+    @Inject
+    EmployeeService employeeService;
+
+    @Inject
+    DataVersionService dataVersion;
+
+    @Inject
+    ChangeFeedService changeFeed;
+
+    public List<DepartmentSummaryDto> getDepartmentSummaries() {
+        logger.fine(() -> "Fetching department summaries");
+        return departmentRepository.findAllSummaries();
+    }
+
+    /**
+     * Every department with its headcount and, unless {@code employeesPerDepartment} is 0, its
+     * first employees: two statements regardless of the number of departments.
+     */
+    public List<DepartmentOverviewDto> getDepartmentOverviews(int employeesPerDepartment, Set<Field> fields) {
+        logger.fine(() -> "Fetching department overviews with " + employeesPerDepartment + " employees each");
+        List<DepartmentSummaryDto> summaries = departmentRepository.findAllSummaries();
+        if (employeesPerDepartment <= 0) {
+            return summaries.stream().map(summary -> new DepartmentOverviewDto(summary, null)).toList();
+        }
+        Map<Long, List<EmployeeSummaryDto>> employees =
+                employeeRepository.findFirstSummariesPerDepartment(employeesPerDepartment, fields);
+        return summaries.stream()
+                .map(summary -> new DepartmentOverviewDto(summary, employees.getOrDefault(summary.getId(), List.of())))
+                .toList();
     }
 
     public Department getDepartmentById(Long id) {
-        logger.info("Fetching department with id: " + id);
+        logger.fine(() -> "Fetching department with id: " + id);
         return departmentRepository.findByIdOptional(id)
                 .orElseThrow(() -> new NotFoundException("Department not found with id: " + id));
     }
 
     public Department getDepartmentByName(String name) {
-        logger.info("Fetching department with name: " + name);
+        logger.fine(() -> "Fetching department with name: " + name);
         return departmentRepository.findByName(name)
                 .orElseThrow(() -> new NotFoundException("Department not found with name: " + name));
     }
 
+    public DepartmentSummaryDto getDepartmentSummaryById(Long id) {
+        return getDepartmentSummary(getDepartmentById(id));
+    }
+
+    public DepartmentSummaryDto getDepartmentSummary(Department department) {
+        return new DepartmentSummaryDto(department, departmentRepository.findEmployeeCount(department.getId()));
+    }
+
     @Transactional
     public Department createDepartment(Department department) {
-        logger.info("Creating new department: " + department.getName());
+        logger.fine(() -> "Creating new department: " + department.getName());
 
         if (department.getName() == null || department.getName().trim().isEmpty()) {
             throw new BadRequestException("Department name is required");
@@ -56,13 +99,16 @@ public class DepartmentService {
 
         department.setName(trimmedName);
         departmentRepository.persist(department);
-        logger.info("Created department with id: " + department.getId());
+        departmentRepository.createHeadcount(department);
+        dataVersion.changed();
+        changeFeed.record(ChangeEventDto.departmentSaved(ChangeEventDto.Type.DEPARTMENT_CREATED, new DepartmentSummaryDto(department, 0)));
+        logger.fine(() -> "Created department with id: " + department.getId());
         return department;
     }
 
     @Transactional
     public Department updateDepartment(Long id, Department departmentUpdate) {
-        logger.info("Updating department with id: " + id);
+        logger.fine(() -> "Updating department with id: " + id);
 
         Department existingDepartment = getDepartmentById(id);
 
@@ -77,32 +123,27 @@ public class DepartmentService {
             }
 
             existingDepartment.setName(trimmedName);
+            dataVersion.changed(id);
+            changeFeed.record(ChangeEventDto.departmentSaved(ChangeEventDto.Type.DEPARTMENT_UPDATED,
+                    getDepartmentSummary(existingDepartment)));
         }
 
-        // Force load employees to calculate count
-        existingDepartment.getEmployees().size();
-
-        logger.info("Updated department: " + existingDepartment.getName());
+        logger.fine(() -> "Updated department: " + existingDepartment.getName());
         return existingDepartment;
     }
 
     @Transactional
     public void deleteDepartment(Long id) {
-        logger.info("Deleting department with id: " + id);
+        logger.fine(() -> "Deleting department with id: " + id);
 
         Department department = getDepartmentById(id);
 
-        List<Employee> employees = employeeRepository.findByDepartmentId(id);
-        for (Employee employee : employees) {
-            employee.setDepartment(null);
-            logger.info("Moved employee " + employee.getFullName() + " to unassigned");
-        }
+        int moved = employeeService.moveAllEmployees(id, null);
+        logger.fine(() -> "Moved " + moved + " employees to unassigned");
 
         departmentRepository.delete(department);
-        logger.info("Deleted department: " + department.getName());
-    }
-
-    public long getUnassignedEmployeeCount() {
-        return employeeRepository.count("department IS NULL");
+        dataVersion.changed(id);
+        changeFeed.record(ChangeEventDto.departmentDeleted(id));
+        logger.fine(() -> "Deleted department: " + department.getName());
     }
 }
\ No newline at end of file
@@ -1,19 +1,49 @@
 package com.dedalus.interview.service;
 
+import com.dedalus.interview.config.MetricsConfig;
+import com.dedalus.interview.dto.ChangeEventDto;
+import com.dedalus.interview.dto.EmployeeCursor;
+import com.dedalus.interview.dto.EmployeeImportResultDto;
+import com.dedalus.interview.dto.EmployeeImportRow;
+import com.dedalus.interview.dto.EmployeeLookupResultDto;
+import com.dedalus.interview.dto.EmployeeReassignmentDto;
+import com.dedalus.interview.dto.EmployeePage;
+import com.dedalus.interview.dto.EmployeeSuggestionDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto.Field;
 import com.dedalus.interview.entity.Employee;
 import com.dedalus.interview.entity.Department;
 import com.dedalus.interview.repository.EmployeeRepository;
 import com.dedalus.interview.repository.DepartmentRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
-
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.logging.Logger;
 
 @ApplicationScoped
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class EmployeeService {
 
     private static final Logger logger = Logger.getLogger(EmployeeService.class.getName());
@@ -24,48 +54,120 @@ public class EmployeeService {
     @Inject
     DepartmentRepository departmentRepository;
 
-    public List<Employee> getAllEmployees() {
-        logger.info("Fetching all employees");
-        return employeeRepository.listAll();
+    @Inject
+    EmployeeSuggestionIndex suggestionIndex;
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    Event<EmployeesReassignedEvent> reassignedEvent;
+
+    @Inject
+    ChangeFeedService changeFeed;
+
+    @Inject
+    DataVersionService dataVersion;
+
+    @Inject
+    HeadcountService headcount;
+
+    @ConfigProperty(name = "app.export.fetch-size", defaultValue = "500")
+    int exportFetchSize;
+
+    @ConfigProperty(name = "app.lookup.max-ids", defaultValue = "5000")
+    int maxLookupIds;
+
+    public EmployeePage getAllEmployees(EmployeeCursor after, int limit, Set<Field> fields) {
+        logger.fine(() -> "Fetching all employees");
+        return EmployeePage.of(employeeRepository.findAllSummaries(after, EmployeePage.fetchSize(limit), fields), limit);
     }
 
     public Employee getEmployeeById(Long id) {
-        logger.info("Fetching employee with id: " + id);
+        logger.fine(() -> "Fetching employee with id: " + id);
         return employeeRepository.findByIdOptional(id)
                 .orElseThrow(() -> new NotFoundException("Employee not found with id: " + id));
     }
 
-    public List<Employee> getEmployeesByDepartmentId(Long departmentId) {
-        logger.info("Fetching employees for department id: " + departmentId);
-        return employeeRepository.findByDepartmentId(departmentId);
+    public EmployeePage getEmployeesByDepartmentId(Long departmentId, EmployeeCursor after, int limit,
+                                                   Set<Field> fields) {
+        logger.fine(() -> "Fetching employees for department id: " + departmentId);
+        return EmployeePage.of(employeeRepository.findSummariesByDepartmentId(
+                departmentId, after, EmployeePage.fetchSize(limit), fields), limit);
     }
 
-    public List<Employee> getUnassignedEmployees() {
-        logger.info("Fetching unassigned employees");
-        return employeeRepository.findUnassigned();
+    public EmployeePage getUnassignedEmployees(EmployeeCursor after, int limit, Set<Field> fields) {
+        logger.fine(() -> "Fetching unassigned employees");
+        return EmployeePage.of(employeeRepository.findSummariesByDepartmentId(
+                null, after, EmployeePage.fetchSize(limit), fields), limit);
     }
 
-    public List<Employee> searchEmployeesByName(String name) {
-        logger.info("Searching employees by name: " + name);
+    public EmployeePage searchEmployeesByName(String name, EmployeeCursor after, int limit, Set<Field> fields) {
+        logger.fine(() -> "Searching employees by name: " + name);
         if (name == null || name.trim().isEmpty()) {
-            return getAllEmployees();
+            return getAllEmployees(after, limit, fields);
         }
-        return employeeRepository.findByFullNameContainingIgnoreCase(name.trim());
+        return EmployeePage.of(employeeRepository.findSummariesByFullNameContainingIgnoreCase(
+                name.trim(), after, EmployeePage.fetchSize(limit), fields), limit);
     }
 
-    public List<Employee> searchEmployeesInDepartment(Long departmentId, String name) {
-        logger.info("Searching employees in department " + departmentId + " by name: " + name);
+    public EmployeePage searchEmployeesInDepartment(Long departmentId, String name, EmployeeCursor after, int limit,
+                                                    Set<Field> fields) {
+        logger.fine(() -> "Searching employees in department " + departmentId + " by name: " + name);
         if (name == null || name.trim().isEmpty()) {
-            return getEmployeesByDepartmentId(departmentId);
+            return getEmployeesByDepartmentId(departmentId, after, limit, fields);
+        }
+        return EmployeePage.of(employeeRepository.findSummariesByDepartmentIdAndFullNameContainingIgnoreCase(
+                departmentId, name.trim(), after, EmployeePage.fetchSize(limit), fields), limit);
+    }
+
+    /**
+     * Resolves a batch of ids in request order, marking unknown ids as not found. Duplicates are
+     * queried once and repeated in the result.
+     */
+    public List<EmployeeLookupResultDto> lookupEmployees(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException("ids is required");
+        }
+        if (ids.size() > maxLookupIds) {
+            throw new BadRequestException("At most " + maxLookupIds + " ids can be looked up at once");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("ids must not contain null");
+        }
+        logger.fine(() -> "Looking up " + ids.size() + " employees");
+
+        Map<Long, EmployeeSummaryDto> found = employeeRepository.findSummariesByIds(new LinkedHashSet<>(ids));
+        List<EmployeeLookupResultDto> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            results.add(new EmployeeLookupResultDto(id, found.get(id)));
+        }
+        return results;
+    }
+
+    public List<EmployeeSuggestionDto> suggestEmployees(String query, int limit) {
+        return suggestionIndex.suggest(query, limit);
+    }
+
+    /**
+     * Hands every employee to {@code action} while rows are still being read from the database, so
+     * exports run in constant memory regardless of headcount.
+     */
+    @Transactional
+    public void exportEmployees(Consumer<EmployeeSummaryDto> action) {
+        logger.fine(() -> "Exporting all employees");
+        try (Stream<EmployeeSummaryDto> employees = employeeRepository.streamAllSummaries(exportFetchSize)) {
+            employees.forEach(action);
         }
-        return employeeRepository.findByDepartmentIdAndFullNameContainingIgnoreCase(departmentId, name.trim());
     }
 
     @Transactional
     public Employee createEmployee(Employee employee) {
-        logger.info("Creating new employee: " + employee.getFullName());
+        logger.fine(() -> "Creating new employee: " + employee.getFullName());
 
-        validateEmployee(employee, null);
+        // A blank email means none; stored as NULL so it is exempt from the unique index
+        employee.setEmail(trimToNull(employee.getEmail()));
+        validateEmployee(employee);
 
         if (employee.getDepartmentId() != null) {
             Department department = departmentRepository.findByIdOptional(employee.getDepartmentId())
@@ -74,15 +176,94 @@ public class EmployeeService {
         }
 
         employeeRepository.persist(employee);
-        logger.info("Created employee with id: " + employee.getId());
+        flushWithUniqueEmail(employee);
+        headcount.added(employee.getDepartmentId(), 1);
+        dataVersion.changed(employee.getDepartmentId());
+        changeFeed.record(ChangeEventDto.employeeSaved(ChangeEventDto.Type.EMPLOYEE_CREATED, new EmployeeSummaryDto(employee)));
+        logger.fine(() -> "Created employee with id: " + employee.getId());
         return employee;
     }
 
+    /**
+     * Imports one chunk of rows in its own transaction. Each chunk costs one query for the known
+     * department ids and one IN query for email collisions; valid rows are then inserted in JDBC
+     * batches. Invalid rows are skipped and returned as errors.
+     */
+    @Transactional
+    public List<EmployeeImportResultDto.RowError> importEmployees(List<EmployeeImportRow> rows) {
+        logger.fine(() -> "Importing chunk of " + rows.size() + " employees");
+
+        List<EmployeeImportResultDto.RowError> errors = new ArrayList<>();
+        Set<Long> departmentIds = departmentRepository.findAllIds();
+        Set<String> chunkEmails = new HashSet<>();
+        List<EmployeeImportRow> candidates = new ArrayList<>(rows.size());
+        List<Employee> employees = new ArrayList<>(rows.size());
+
+        for (EmployeeImportRow row : rows) {
+            String error = row.getError();
+            Employee employee = null;
+            if (error == null) {
+                employee = toImportedEmployee(row.getEmployee());
+                error = validateImportedEmployee(employee, row.getEmployee().getDepartmentId(), departmentIds);
+            }
+            if (error == null && employee.getEmail() != null && !chunkEmails.add(employee.getEmail())) {
+                error = "Employee with email '" + employee.getEmail() + "' appears more than once";
+            }
+            if (error != null) {
+                errors.add(new EmployeeImportResultDto.RowError(row.getLine(), error));
+                continue;
+            }
+            candidates.add(row);
+            employees.add(employee);
+        }
+
+        Set<String> existingEmails = employeeRepository.findExistingEmails(chunkEmails);
+        List<Employee> accepted = new ArrayList<>(employees.size());
+        List<Long> acceptedLines = new ArrayList<>(employees.size());
+        Map<Long, Integer> acceptedPerDepartment = new HashMap<>();
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (employee.getEmail() != null && existingEmails.contains(employee.getEmail())) {
+                errors.add(new EmployeeImportResultDto.RowError(candidates.get(i).getLine(),
+                        "Employee with email '" + employee.getEmail() + "' already exists"));
+                continue;
+            }
+            Long departmentId = candidates.get(i).getEmployee().getDepartmentId();
+            if (departmentId != null) {
+                employee.setDepartment(departmentRepository.getReference(departmentId));
+            }
+            accepted.add(employee);
+            acceptedLines.add(candidates.get(i).getLine());
+            acceptedPerDepartment.merge(departmentId, 1, Integer::sum);
+        }
+
+        employeeRepository.persist(accepted);
+        if (!flushImportedChunk()) {
+            // The failed flush has marked the transaction for rollback, so none of the chunk is kept
+            for (long line : acceptedLines) {
+                errors.add(new EmployeeImportResultDto.RowError(line,
+                        "Chunk rejected: an email in it was taken by another employee during the import"));
+            }
+            errors.sort(Comparator.comparingLong(EmployeeImportResultDto.RowError::getLine));
+            logger.fine(() -> "Rejected chunk of " + rows.size() + " employees after a concurrent email conflict");
+            return errors;
+        }
+        headcount.adjust(acceptedPerDepartment);
+        if (!accepted.isEmpty()) {
+            dataVersion.changed(accepted.stream().map(Employee::getDepartmentId).distinct().toArray(Long[]::new));
+            changeFeed.record(ChangeEventDto.employeesImported(accepted.size()));
+        }
+        errors.sort(Comparator.comparingLong(EmployeeImportResultDto.RowError::getLine));
+        logger.fine(() -> "Imported " + accepted.size() + " employees, rejected " + errors.size());
+        return errors;
+    }
+
     @Transactional
     public Employee updateEmployee(Long id, Employee employeeUpdate) {
-        logger.info("Updating employee with id: " + id);
+        logger.fine(() -> "Updating employee with id: " + id);
 
-        Employee existingEmployee = getEmployeeById(id);
+        Employee existingEmployee = getEmployeeForUpdate(id);
+        Long previousDepartmentId = existingEmployee.getDepartmentId();
 
         if (employeeUpdate.getFullName() != null) {
             existingEmployee.setFullName(employeeUpdate.getFullName().trim());
@@ -94,10 +275,10 @@ public class EmployeeService {
             existingEmployee.setPhone(employeeUpdate.getPhone().trim());
         }
         if (employeeUpdate.getEmail() != null) {
-            existingEmployee.setEmail(employeeUpdate.getEmail().trim());
+            existingEmployee.setEmail(trimToNull(employeeUpdate.getEmail()));
         }
 
-        validateEmployee(existingEmployee, id);
+        validateEmployee(existingEmployee);
 
         if (employeeUpdate.getDepartmentId() != null) {
             Department department = departmentRepository.findByIdOptional(employeeUpdate.getDepartmentId())
@@ -109,25 +290,35 @@ public class EmployeeService {
             existingEmployee.getDepartment().getName();
         }
 
-        logger.info("Updated employee: " + existingEmployee.getFullName());
+        flushWithUniqueEmail(existingEmployee);
+        headcount.moved(previousDepartmentId, existingEmployee.getDepartmentId(), 1);
+
+        dataVersion.changed(previousDepartmentId, existingEmployee.getDepartmentId());
+        changeFeed.record(ChangeEventDto.employeeSaved(ChangeEventDto.Type.EMPLOYEE_UPDATED, new EmployeeSummaryDto(existingEmployee)));
+
+        logger.fine(() -> "Updated employee: " + existingEmployee.getFullName());
         return existingEmployee;
     }
 
     @Transactional
     public void deleteEmployee(Long id) {
-        logger.info("Deleting employee with id: " + id);
+        logger.fine(() -> "Deleting employee with id: " + id);
 
-        Employee employee = getEmployeeById(id);
+        Employee employee = getEmployeeForUpdate(id);
         employeeRepository.delete(employee);
+        headcount.removed(employee.getDepartmentId(), 1);
+        dataVersion.changed(employee.getDepartmentId());
+        changeFeed.record(ChangeEventDto.employeeDeleted(id, employee.getDepartmentId()));
 
-        logger.info("Deleted employee: " + employee.getFullName());
+        logger.fine(() -> "Deleted employee: " + employee.getFullName());
     }
 
     @Transactional
     public Employee assignEmployeeToDepartment(Long employeeId, Long departmentId) {
-        logger.info("Assigning employee " + employeeId + " to department " + departmentId);
+        logger.fine(() -> "Assigning employee " + employeeId + " to department " + departmentId);
 
-        Employee employee = getEmployeeById(employeeId);
+        Employee employee = getEmployeeForUpdate(employeeId);
+        Long previousDepartmentId = employee.getDepartmentId();
 
         if (departmentId != null) {
             Department department = departmentRepository.findByIdOptional(departmentId)
@@ -136,21 +327,157 @@ public class EmployeeService {
         } else {
             employee.setDepartment(null);
         }
+        headcount.moved(previousDepartmentId, departmentId, 1);
+        dataVersion.changed(previousDepartmentId, departmentId);
+        changeFeed.record(ChangeEventDto.employeeAssigned(employeeId, previousDepartmentId, departmentId));
 
-        logger.info("Assigned employee " + employee.getFullName() + " to " +
+        logger.fine(() -> "Assigned employee " + employee.getFullName() + " to " +
                    (departmentId != null ? "department " + departmentId : "unassigned"));
         return employee;
     }
 
-    private void validateEmployee(Employee employee, Long excludeId) {
+    /**
+     * Moves the selected employees to a department, or to unassigned when {@code departmentId} is
+     * {@code null}, with set-based UPDATE statements instead of loading each employee.
+     */
+    @Transactional
+    public int reassignEmployees(EmployeeReassignmentDto reassignment, Long departmentId) {
+        boolean byIds = reassignment.getEmployeeIds() != null && !reassignment.getEmployeeIds().isEmpty();
+        if (byIds == (reassignment.getFromDepartmentId() != null)) {
+            throw new BadRequestException("Either employeeIds or fromDepartmentId is required");
+        }
+        if (byIds) {
+            return reassignEmployees(reassignment.getEmployeeIds(), departmentId);
+        }
+        return moveAllEmployees(reassignment.getFromDepartmentId(), departmentId);
+    }
+
+    @Transactional
+    public int reassignEmployees(List<Long> requestedIds, Long departmentId) {
+        // A repeated id would otherwise be counted and updated once per chunk it appears in
+        List<Long> employeeIds = new ArrayList<>(new LinkedHashSet<>(requestedIds));
+        logger.fine(() -> "Reassigning " + employeeIds.size() + " employees to " +
+                   (departmentId != null ? "department " + departmentId : "unassigned"));
+
+        Department target = findTargetDepartment(departmentId);
+        Map<Long, Integer> moving = employeeRepository.lockDepartmentCounts(employeeIds);
+        int updated = employeeRepository.reassign(employeeIds, target);
+        headcount.movedAll(moving, departmentId);
+        reassignedEvent.fire(EmployeesReassignedEvent.employees(employeeIds, departmentId));
+        dataVersion.changedEverywhere();
+        if (updated > 0) {
+            changeFeed.record(ChangeEventDto.employeesReassigned(employeeIds, null, departmentId, updated));
+        }
+
+        logger.fine(() -> "Reassigned " + updated + " employees");
+        return updated;
+    }
+
+    @Transactional
+    public int moveAllEmployees(Long fromDepartmentId, Long toDepartmentId) {
+        logger.fine(() -> "Moving all employees of department " + fromDepartmentId + " to " +
+                   (toDepartmentId != null ? "department " + toDepartmentId : "unassigned"));
+
+        int updated = employeeRepository.reassignDepartment(fromDepartmentId, findTargetDepartment(toDepartmentId));
+        headcount.moved(fromDepartmentId, toDepartmentId, updated);
+        reassignedEvent.fire(EmployeesReassignedEvent.department(fromDepartmentId, toDepartmentId));
+        dataVersion.changed(fromDepartmentId, toDepartmentId);
+        if (updated > 0) {
+            changeFeed.record(ChangeEventDto.employeesReassigned(null, fromDepartmentId, toDepartmentId, updated));
+        }
+
+        logger.fine(() -> "Moved " + updated + " employees");
+        return updated;
+    }
+
+    /**
+     * Loads an employee with a row lock, so concurrent changes to the same employee see each
+     * other's department and adjust the headcounts one after the other.
+     */
+    private Employee getEmployeeForUpdate(Long id) {
+        return employeeRepository.findByIdOptional(id, LockModeType.PESSIMISTIC_WRITE)
+                .orElseThrow(() -> new NotFoundException("Employee not found with id: " + id));
+    }
+
+    private Department findTargetDepartment(Long departmentId) {
+        if (departmentId == null) {
+            return null;
+        }
+        return departmentRepository.findByIdOptional(departmentId)
+                .orElseThrow(() -> new NotFoundException("Department not found with id: " + departmentId));
+    }
+
+    private Employee toImportedEmployee(EmployeeSummaryDto row) {
+        return new Employee(trimToNull(row.getFullName()), trimToNull(row.getAddress()),
+                trimToNull(row.getPhone()), trimToNull(row.getEmail()));
+    }
+
+    private String validateImportedEmployee(Employee employee, Long departmentId, Set<Long> departmentIds) {
+        if (employee.getFullName() == null) {
+            return "Employee full name is required";
+        }
+        Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (departmentId != null && !departmentIds.contains(departmentId)) {
+            return "Department not found with id: " + departmentId;
+        }
+        return null;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private void validateEmployee(Employee employee) {
         if (employee.getFullName() == null || employee.getFullName().trim().isEmpty()) {
             throw new BadRequestException("Employee full name is required");
         }
+    }
 
-        if (employee.getEmail() != null && !employee.getEmail().trim().isEmpty()) {
-            if (employeeRepository.existsByEmailExcludingId(employee.getEmail(), excludeId)) {
+    /**
+     * Writes the pending insert or update now rather than at commit, so a duplicate email is
+     * reported by the unique index while the request can still turn it into a 400.
+     */
+    private void flushWithUniqueEmail(Employee employee) {
+        try {
+            employeeRepository.flush();
+        } catch (PersistenceException e) {
+            if (isEmailConflict(e)) {
                 throw new BadRequestException("Employee with email '" + employee.getEmail() + "' already exists");
             }
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts the chunk now rather than at commit. Returns {@code false} when an email checked as
+     * free was taken by a concurrent write in the meantime.
+     */
+    private boolean flushImportedChunk() {
+        try {
+            employeeRepository.flush();
+            return true;
+        } catch (PersistenceException e) {
+            if (isEmailConflict(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isEmailConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase().contains(Employee.EMAIL_INDEX)) {
+                return true;
+            }
         }
+        return false;
     }
 }
\ No newline at end of file
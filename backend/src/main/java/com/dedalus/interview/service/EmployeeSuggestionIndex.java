@@ -0,0 +1,215 @@
+package com.dedalus.interview.service;
+
+import com.dedalus.interview.dto.EmployeeSuggestionDto;
+import com.dedalus.interview.repository.EmployeeRepository;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import jakarta.transaction.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * In-memory prefix index over employee name tokens and email local-parts, used for type-ahead
+ * suggestions without a database round trip. Loaded once at startup and kept current by
+ * {@link EmployeeSuggestionListener} after each committed employee write.
+ */
+@ApplicationScoped
+public class EmployeeSuggestionIndex {
+
+    private static final Logger logger = Logger.getLogger(EmployeeSuggestionIndex.class.getName());
+
+    private final Map<Long, EmployeeSuggestionDto> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+    /**
+     * Serializes changes to the token sets, so a set emptied by one writer can be removed without
+     * losing an id another writer is adding (the skip list's compute methods retry rather than
+     * lock). Suggestions read without it.
+     */
+    private final Lock writeLock = new ReentrantLock();
+
+    @Inject
+    EmployeeRepository employeeRepository;
+
+    // Runs after DataInitializer so the sample data is included
+    @Transactional
+    void onStart(@Observes @Priority(Interceptor.Priority.APPLICATION + 1000) StartupEvent ev) {
+        rebuild(employeeRepository.findAllSuggestions());
+    }
+
+    public void rebuild(List<EmployeeSuggestionDto> employees) {
+        writeLock.lock();
+        try {
+            entries.clear();
+            tokens.clear();
+            for (EmployeeSuggestionDto employee : employees) {
+                upsertLocked(employee);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        logger.info("Suggestion index built with " + entries.size() + " employees");
+    }
+
+    public void upsert(EmployeeSuggestionDto employee) {
+        writeLock.lock();
+        try {
+            upsertLocked(employee);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        writeLock.lock();
+        try {
+            EmployeeSuggestionDto previous = entries.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a committed set-based department change, which entity listeners do not see.
+     */
+    void onReassigned(@Observes(during = TransactionPhase.AFTER_SUCCESS) EmployeesReassignedEvent event) {
+        reassign(event);
+    }
+
+    public void reassign(EmployeesReassignedEvent event) {
+        if (event.getEmployeeIds() != null) {
+            for (Long id : event.getEmployeeIds()) {
+                entries.computeIfPresent(id, (key, employee) -> withDepartment(employee, event.getToDepartmentId()));
+            }
+            return;
+        }
+        for (EmployeeSuggestionDto employee : entries.values()) {
+            if (Objects.equals(employee.getDepartmentId(), event.getFromDepartmentId())) {
+                entries.computeIfPresent(employee.getId(), (key, current) ->
+                        Objects.equals(current.getDepartmentId(), event.getFromDepartmentId())
+                                ? withDepartment(current, event.getToDepartmentId())
+                                : current);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} employees for which every token of the query is a prefix of one
+     * of their name or email tokens, in lexicographic order of the first query token's match.
+     */
+    public List<EmployeeSuggestionDto> suggest(String query, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String first = queryTokens.get(0);
+        NavigableMap<String, Set<Long>> candidates = tokens.subMap(first, true, first + Character.MAX_VALUE, false);
+        Set<Long> seen = new LinkedHashSet<>();
+        List<EmployeeSuggestionDto> result = new ArrayList<>(limit);
+        for (Set<Long> ids : candidates.values()) {
+            for (Long id : ids) {
+                if (!seen.add(id)) {
+                    continue;
+                }
+                EmployeeSuggestionDto employee = entries.get(id);
+                if (employee != null && matchesAll(employee, queryTokens)) {
+                    result.add(employee);
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static EmployeeSuggestionDto withDepartment(EmployeeSuggestionDto employee, Long departmentId) {
+        return new EmployeeSuggestionDto(employee.getId(), employee.getFullName(), employee.getEmail(), departmentId);
+    }
+
+    private void upsertLocked(EmployeeSuggestionDto employee) {
+        Long id = employee.getId();
+        EmployeeSuggestionDto previous = entries.put(id, employee);
+        if (previous != null) {
+            unindex(id, previous);
+        }
+        for (String token : tokensOf(employee)) {
+            tokens.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void unindex(Long id, EmployeeSuggestionDto employee) {
+        for (String token : tokensOf(employee)) {
+            Set<Long> ids = tokens.get(token);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                tokens.remove(token);
+            }
+        }
+    }
+
+    int tokenCount() {
+        return tokens.size();
+    }
+
+    private static boolean matchesAll(EmployeeSuggestionDto employee, List<String> queryTokens) {
+        Set<String> employeeTokens = tokensOf(employee);
+        for (int i = 1; i < queryTokens.size(); i++) {
+            String queryToken = queryTokens.get(i);
+            if (employeeTokens.stream().noneMatch(token -> token.startsWith(queryToken))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> tokensOf(EmployeeSuggestionDto employee) {
+        Set<String> result = new LinkedHashSet<>(tokenize(employee.getFullName()));
+        String email = employee.getEmail();
+        if (email != null) {
+            int at = email.indexOf('@');
+            String localPart = (at >= 0 ? email.substring(0, at) : email).toLowerCase(Locale.ROOT);
+            if (!localPart.isEmpty()) {
+                result.add(localPart);
+                result.addAll(tokenize(localPart));
+            }
+        }
+        return result;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> result = new ArrayList<>();
+        if (text == null) {
+            return result;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+}
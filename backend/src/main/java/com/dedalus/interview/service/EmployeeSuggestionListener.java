@@ -0,0 +1,57 @@
+package com.dedalus.interview.service;
+
+import com.dedalus.interview.dto.EmployeeSuggestionDto;
+import com.dedalus.interview.entity.Employee;
+import io.quarkus.arc.Arc;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * Keeps {@link EmployeeSuggestionIndex} in sync with employee writes. Changes are applied only
+ * once the surrounding transaction has committed, so rolled-back writes never become suggestions.
+ */
+public class EmployeeSuggestionListener {
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Employee employee) {
+        EmployeeSuggestionDto suggestion = new EmployeeSuggestionDto(
+                employee.getId(), employee.getFullName(), employee.getEmail(), employee.getDepartmentId());
+        afterCommit(() -> index().upsert(suggestion));
+    }
+
+    @PostRemove
+    void onRemove(Employee employee) {
+        Long id = employee.getId();
+        afterCommit(() -> index().remove(id));
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationRegistry registry = Arc.container()
+                .instance(TransactionSynchronizationRegistry.class).get();
+        if (registry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            action.run();
+            return;
+        }
+        registry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static EmployeeSuggestionIndex index() {
+        return Arc.container().instance(EmployeeSuggestionIndex.class).get();
+    }
+}
@@ -0,0 +1,40 @@
+package com.dedalus.interview.service;
+
+import java.util.List;
+
+/**
+ * Fired after a set-based department change, which bypasses entity listeners. Either
+ * {@code employeeIds} lists the moved employees, or every employee of {@code fromDepartmentId}
+ * was moved. A {@code null} department means unassigned.
+ */
+public class EmployeesReassignedEvent {
+    private final List<Long> employeeIds;
+    private final Long fromDepartmentId;
+    private final Long toDepartmentId;
+
+    private EmployeesReassignedEvent(List<Long> employeeIds, Long fromDepartmentId, Long toDepartmentId) {
+        this.employeeIds = employeeIds;
+        this.fromDepartmentId = fromDepartmentId;
+        this.toDepartmentId = toDepartmentId;
+    }
+
+    public static EmployeesReassignedEvent employees(List<Long> employeeIds, Long toDepartmentId) {
+        return new EmployeesReassignedEvent(employeeIds, null, toDepartmentId);
+    }
+
+    public static EmployeesReassignedEvent department(Long fromDepartmentId, Long toDepartmentId) {
+        return new EmployeesReassignedEvent(null, fromDepartmentId, toDepartmentId);
+    }
+
+    public List<Long> getEmployeeIds() {
+        return employeeIds;
+    }
+
+    public Long getFromDepartmentId() {
+        return fromDepartmentId;
+    }
+
+    public Long getToDepartmentId() {
+        return toDepartmentId;
+    }
+}
@@ -0,0 +1,160 @@
+package com.dedalus.interview.service;
+
+import com.dedalus.interview.entity.Department;
+import com.dedalus.interview.entity.DepartmentHeadcount;
+import com.dedalus.interview.entity.UnassignedCounter;
+import com.dedalus.interview.repository.DepartmentRepository;
+import com.dedalus.interview.repository.EmployeeRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the {@link DepartmentHeadcount} rows and the {@link UnassignedCounter} in step with the
+ * employees table. Writers report every change in the same transaction as the employee change,
+ * so the counts are exact on commit; {@link #reconcile()} repairs drift from rows written outside
+ * the service layer (sample and synthetic data, manual SQL) at startup and periodically, and
+ * changes the data version when it does so that cached department lists are rebuilt.
+ */
+@ApplicationScoped
+public class HeadcountService {
+
+    private static final Logger logger = Logger.getLogger(HeadcountService.class.getName());
+
+    @Inject
+    DepartmentRepository departmentRepository;
+
+    @Inject
+    EmployeeRepository employeeRepository;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    DataVersionService dataVersion;
+
+    public void added(Long departmentId, int count) {
+        if (count != 0) {
+            departmentRepository.adjustEmployeeCount(departmentId, count);
+        }
+    }
+
+    public void removed(Long departmentId, int count) {
+        added(departmentId, -count);
+    }
+
+    public void moved(Long fromDepartmentId, Long toDepartmentId, int count) {
+        movedAll(Collections.singletonMap(fromDepartmentId, count), toDepartmentId);
+    }
+
+    /**
+     * Moves {@code countsByDepartment} employees from each of its departments ({@code null} for
+     * unassigned) to {@code toDepartmentId}.
+     */
+    public void movedAll(Map<Long, Integer> countsByDepartment, Long toDepartmentId) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        countsByDepartment.forEach((fromDepartmentId, count) -> {
+            deltas.merge(fromDepartmentId, -count, Integer::sum);
+            deltas.merge(toDepartmentId, count, Integer::sum);
+        });
+        adjust(deltas);
+    }
+
+    /**
+     * Applies the net change of each counter ({@code null} key for unassigned) in ascending
+     * department id order with the unassigned counter last. Every writer locks the counter rows in
+     * that same order, so two opposite moves cannot deadlock on them.
+     */
+    public void adjust(Map<Long, Integer> deltas) {
+        Map<Long, Integer> ordered = new TreeMap<>(Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+        ordered.putAll(deltas);
+        ordered.forEach(this::added);
+    }
+
+    /** Runs after the sample and synthetic data have been written, which bypass the counters. */
+    void onStart(@Observes @Priority(Interceptor.Priority.APPLICATION + 700) StartupEvent ev) {
+        reconcile();
+    }
+
+    @Scheduled(every = "${app.headcount.reconcile-every}", delayed = "${app.headcount.reconcile-every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * Recounts every drifted headcount, each in its own short transaction that locks the counter
+     * row before counting. A writer that has not committed yet either holds that lock already (and
+     * its change is counted once it commits) or applies its delta after the recount, so concurrent
+     * writes are neither lost nor counted twice. Returns the number of counters repaired.
+     */
+    public int reconcile() {
+        List<Long> drifted = QuarkusTransaction.requiringNew()
+                .call(departmentRepository::findIdsWithDriftedEmployeeCount);
+        int repaired = 0;
+        for (Long departmentId : drifted) {
+            if (QuarkusTransaction.requiringNew().call(() -> recountDepartment(departmentId))) {
+                repaired++;
+            }
+        }
+        if (QuarkusTransaction.requiringNew().call(this::recountUnassigned)) {
+            repaired++;
+        }
+        if (repaired > 0) {
+            logger.info("Repaired " + repaired + " employee counts");
+        }
+        return repaired;
+    }
+
+    private boolean recountDepartment(Long departmentId) {
+        DepartmentHeadcount headcount = entityManager.find(DepartmentHeadcount.class, departmentId,
+                LockModeType.PESSIMISTIC_WRITE);
+        if (headcount == null) {
+            // Departments written outside the service layer have no headcount row yet
+            Department department = departmentRepository.findById(departmentId, LockModeType.PESSIMISTIC_WRITE);
+            if (department == null) {
+                return false;
+            }
+            entityManager.persist(new DepartmentHeadcount(department,
+                    (int) employeeRepository.count("department.id", departmentId)));
+        } else {
+            int actual = (int) employeeRepository.count("department.id", departmentId);
+            if (headcount.getEmployeeCount() == actual) {
+                return false;
+            }
+            headcount.setEmployeeCount(actual);
+        }
+        dataVersion.changed();
+        return true;
+    }
+
+    private boolean recountUnassigned() {
+        UnassignedCounter counter = entityManager.find(UnassignedCounter.class, UnassignedCounter.ID,
+                LockModeType.PESSIMISTIC_WRITE);
+        int actual = (int) employeeRepository.count("department IS NULL");
+        if (counter == null) {
+            entityManager.persist(new UnassignedCounter(actual));
+        } else if (counter.getEmployeeCount() != actual) {
+            counter.setEmployeeCount(actual);
+        } else {
+            return false;
+        }
+        dataVersion.changed();
+        return true;
+    }
+}
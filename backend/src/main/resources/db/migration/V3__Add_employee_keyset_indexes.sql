@@ -0,0 +1,7 @@
+-- Composite indexes matching the (full_name, id) ordering of the paginated employee lists,
+-- so seek predicates and ORDER BY are served straight from the index
+CREATE INDEX idx_employees_full_name_id ON employees(full_name, id);
+CREATE INDEX idx_employees_department_full_name_id ON employees(department_id, full_name, id);
+
+-- Superseded by idx_employees_full_name_id
+DROP INDEX idx_employees_full_name;
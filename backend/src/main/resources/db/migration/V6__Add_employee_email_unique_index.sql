@@ -0,0 +1,5 @@
+-- Email uniqueness is enforced by the database instead of a count query before every insert/update,
+-- which also rejects concurrent duplicates. Employees without an email (NULL) are not affected, so
+-- blank emails, which the service layer used to store as-is, are turned into NULL first.
+UPDATE employees SET email = NULL WHERE TRIM(email) = '';
+CREATE UNIQUE INDEX uq_employees_email ON employees(email);
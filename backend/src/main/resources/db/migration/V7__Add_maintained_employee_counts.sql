@@ -0,0 +1,11 @@
+-- Headcounts kept up to date by the service layer so department summaries read one row per
+-- department instead of aggregating employees. HeadcountService reconciles them periodically.
+ALTER TABLE departments ADD COLUMN employee_count INTEGER DEFAULT 0 NOT NULL;
+UPDATE departments SET employee_count = (SELECT COUNT(*) FROM employees e WHERE e.department_id = departments.id);
+
+-- Single row (id = 1) counting employees without a department
+CREATE TABLE unassigned_counter (
+    id INTEGER PRIMARY KEY,
+    employee_count INTEGER NOT NULL
+);
+INSERT INTO unassigned_counter (id, employee_count) SELECT 1, COUNT(*) FROM employees WHERE department_id IS NULL;
@@ -0,0 +1,8 @@
+-- Headcounts change with every employee write; keeping them out of the cached departments rows
+-- means those writes no longer invalidate the department cache.
+CREATE TABLE department_headcounts (
+    department_id BIGINT PRIMARY KEY REFERENCES departments(id) ON DELETE CASCADE,
+    employee_count INTEGER NOT NULL
+);
+INSERT INTO department_headcounts (department_id, employee_count) SELECT id, employee_count FROM departments;
+ALTER TABLE departments DROP COLUMN employee_count;
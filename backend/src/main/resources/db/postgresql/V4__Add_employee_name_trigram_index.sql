@@ -0,0 +1,5 @@
+-- Trigram index so substring name searches (lower(full_name) LIKE '%x%') avoid a sequential scan.
+-- PostgreSQL only: H2 has no pg_trgm and runs the same query without an index.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_employees_full_name_trgm ON employees USING gin (lower(full_name) gin_trgm_ops);
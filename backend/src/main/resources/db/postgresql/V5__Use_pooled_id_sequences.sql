@@ -0,0 +1,8 @@
+-- Hibernate allocates ids from these sequences in blocks of 50 (pooled optimizer) so inserts can be
+-- batched; IDENTITY generation forces one round trip per insert. The increment must match the
+-- entities' allocationSize, and the current value is moved past every id already in use.
+ALTER SEQUENCE departments_id_seq INCREMENT BY 50;
+SELECT setval('departments_id_seq', (SELECT COALESCE(MAX(id), 0) FROM departments) + 50);
+
+ALTER SEQUENCE employees_id_seq INCREMENT BY 50;
+SELECT setval('employees_id_seq', (SELECT COALESCE(MAX(id), 0) FROM employees) + 50);
@@ -0,0 +1,64 @@
+package com.dedalus.interview.config;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(SyntheticDataGeneratorTest.SeededProfile.class)
+class SyntheticDataGeneratorTest {
+
+    public static class SeededProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "app.seed.employees", "5000",
+                    "app.seed.departments", "40",
+                    "app.seed.chunk-size", "700");
+        }
+    }
+
+    @Test
+    void onStart_ShouldTopUpToConfiguredSizesWithSkewedDepartments() {
+        List<Map<String, Object>> summaries = given().when().get("/api/departments")
+                .then().statusCode(200)
+                .extract().jsonPath().getList("$");
+
+        List<Integer> departmentSizes = summaries.stream()
+                .filter(summary -> summary.get("id") != null)
+                .map(summary -> (Integer) summary.get("employeeCount"))
+                .toList();
+        int total = summaries.stream().mapToInt(summary -> (Integer) summary.get("employeeCount")).sum();
+
+        assertEquals(40, departmentSizes.size());
+        assertEquals(5000, total);
+        int largest = departmentSizes.stream().mapToInt(Integer::intValue).max().orElseThrow();
+        int smallest = departmentSizes.stream().mapToInt(Integer::intValue).min().orElseThrow();
+        assertTrue(largest > 10 * Math.max(smallest, 1), "sizes should be skewed: " + departmentSizes);
+    }
+
+    @Test
+    void onStart_ShouldLeaveSequencesPastGeneratedIds() {
+        int departmentId = given().contentType(ContentType.JSON)
+                .body("{\"name\": \"After Seeding\"}")
+                .when().post("/api/departments")
+                .then().statusCode(201)
+                .extract().path("id");
+        int employeeId = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Seeded Later\", \"email\": \"seeded.later@company.com\"}")
+                .when().post("/api/employees")
+                .then().statusCode(201)
+                .extract().path("id");
+
+        given().when().delete("/api/employees/" + employeeId).then().statusCode(204);
+        given().when().delete("/api/departments/" + departmentId).then().statusCode(204);
+    }
+}
@@ -0,0 +1,73 @@
+package com.dedalus.interview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class CborMessageBodyWriterTest {
+
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    @Test
+    void getAllEmployees_AcceptingCbor_ShouldReturnTheSameListAsJson() throws Exception {
+        JsonNode json = new ObjectMapper().readTree(given().when().get("/api/employees")
+                .then().statusCode(200).contentType("application/json")
+                .extract().asString());
+
+        Response cbor = given().accept(CborMessageBodyWriter.CBOR).when().get("/api/employees")
+                .then().statusCode(200).contentType(CborMessageBodyWriter.CBOR)
+                .header("Vary", containsString("Accept"))
+                .extract().response();
+
+        assertEquals(json, cborMapper.readTree(cbor.asByteArray()));
+    }
+
+    @Test
+    void getAllEmployees_AcceptingCborWithFields_ShouldOnlyEncodeSelectedFields() throws Exception {
+        byte[] body = given().accept(CborMessageBodyWriter.CBOR)
+                .queryParam("fields", "departmentName").queryParam("search", "John Doe")
+                .when().get("/api/employees")
+                .then().statusCode(200).extract().asByteArray();
+
+        JsonNode employee = cborMapper.readTree(body).get(0);
+        assertEquals("John Doe", employee.get("fullName").asText());
+        assertTrue(employee.has("departmentName"));
+        assertFalse(employee.has("email"));
+    }
+
+    @Test
+    void getAllDepartments_ShouldUseOneETagPerEncoding() throws Exception {
+        String jsonETag = given().when().get("/api/departments")
+                .then().statusCode(200).extract().header("ETag");
+        Response cbor = given().accept(CborMessageBodyWriter.CBOR).when().get("/api/departments")
+                .then().statusCode(200).contentType(CborMessageBodyWriter.CBOR)
+                .extract().response();
+        String cborETag = cbor.header("ETag");
+
+        assertNotEquals(jsonETag, cborETag);
+        assertTrue(cborMapper.readTree(cbor.asByteArray()).get(0).has("employeeCount"));
+
+        given().accept(CborMessageBodyWriter.CBOR).header("If-None-Match", cborETag).when().get("/api/departments")
+                .then().statusCode(304);
+        given().accept(CborMessageBodyWriter.CBOR).header("If-None-Match", jsonETag).when().get("/api/departments")
+                .then().statusCode(200);
+        given().header("If-None-Match", jsonETag).when().get("/api/departments")
+                .then().statusCode(304);
+    }
+
+    @Test
+    void getAllDepartments_PreferringJson_ShouldReturnJson() {
+        given().accept("application/cbor;q=0.5, application/json").when().get("/api/departments")
+                .then().statusCode(200).contentType("application/json");
+        given().accept("*/*").when().get("/api/departments")
+                .then().statusCode(200).contentType("application/json");
+    }
+}
@@ -0,0 +1,111 @@
+package com.dedalus.interview.controller;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ChangeControllerTest {
+
+    @TestHTTPResource("/api/changes")
+    URI changes;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void changes_ShouldStreamCommittedWritesAndResumeAfterLastEventId() throws Exception {
+        long createdSequence;
+        int departmentId;
+        int employeeId;
+        try (BufferedReader stream = open(null)) {
+            assertEquals("sync", nextEvent(stream).get("event"));
+
+            departmentId = given().contentType(ContentType.JSON).body("{\"name\": \"Change Feed\"}")
+                    .when().post("/api/departments")
+                    .then().statusCode(201)
+                    .extract().path("id");
+
+            Map<String, String> created = nextEvent(stream);
+            assertEquals("department.created", created.get("event"));
+            assertTrue(created.get("data").contains("\"name\":\"Change Feed\""));
+            createdSequence = Long.parseLong(created.get("id"));
+        }
+
+        employeeId = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Feed Reader\", \"email\": \"feed.reader@company.com\"}")
+                .when().post("/api/employees")
+                .then().statusCode(201)
+                .extract().path("id");
+        given().when().put("/api/employees/" + employeeId + "/department/" + departmentId).then().statusCode(200);
+
+        given().when().delete("/api/departments/" + departmentId).then().statusCode(204);
+
+        try (BufferedReader stream = open(String.valueOf(createdSequence))) {
+            Map<String, String> employeeCreated = nextEvent(stream);
+            assertEquals("employee.created", employeeCreated.get("event"));
+            assertEquals(createdSequence + 1, Long.parseLong(employeeCreated.get("id")));
+            assertEquals("employee.assigned", nextEvent(stream).get("event"));
+
+            Map<String, String> moved = nextEvent(stream);
+            assertEquals("employees.reassigned", moved.get("event"));
+            assertTrue(moved.get("data").contains("\"fromDepartmentId\":" + departmentId));
+            assertTrue(moved.get("data").contains("\"count\":1"));
+
+            Map<String, String> deleted = nextEvent(stream);
+            assertEquals("department.deleted", deleted.get("event"));
+            assertTrue(deleted.get("data").contains("\"id\":" + departmentId));
+        }
+
+        given().when().delete("/api/employees/" + employeeId).then().statusCode(204);
+    }
+
+    @Test
+    void changes_WithUnknownLastEventId_ShouldAskClientToReload() throws Exception {
+        try (BufferedReader stream = open("1")) {
+            assertEquals("sync", nextEvent(stream).get("event"));
+        }
+    }
+
+    private BufferedReader open(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(changes).header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+        return new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> nextEvent(BufferedReader stream) throws Exception {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (String line = stream.readLine(); line != null; line = stream.readLine()) {
+            if (line.isEmpty()) {
+                if (!fields.isEmpty()) {
+                    return fields;
+                }
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                fields.merge(line.substring(0, colon), line.substring(colon + 1).trim(), (a, b) -> a + "\n" + b);
+            }
+        }
+        fail("Stream ended before the next event");
+        return fields;
+    }
+}
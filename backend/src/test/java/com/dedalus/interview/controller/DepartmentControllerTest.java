@@ -0,0 +1,40 @@
+package com.dedalus.interview.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+@QuarkusTest
+class DepartmentControllerTest {
+
+    @Test
+    void createAndGetDepartment_ShouldIncludeTheMaintainedEmployeeCount() {
+        int departmentId = given().contentType(ContentType.JSON).body("{\"name\": \"Counted\"}")
+                .when().post("/api/departments")
+                .then().statusCode(201)
+                .body("name", equalTo("Counted"))
+                .body("employeeCount", equalTo(0))
+                .extract().path("id");
+        int employeeId = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Counted Member\", \"department\": {\"id\": " + departmentId + "}}")
+                .when().post("/api/employees")
+                .then().statusCode(201)
+                .extract().path("id");
+
+        given().when().get("/api/departments/" + departmentId)
+                .then().statusCode(200)
+                .body("id", equalTo(departmentId))
+                .body("name", equalTo("Counted"))
+                .body("employeeCount", equalTo(1));
+        given().contentType(ContentType.JSON).body("{\"name\": \"Recounted\"}")
+                .when().put("/api/departments/" + departmentId)
+                .then().statusCode(200)
+                .body("employeeCount", equalTo(1));
+
+        given().when().delete("/api/employees/" + employeeId).then().statusCode(204);
+        given().when().delete("/api/departments/" + departmentId).then().statusCode(204);
+    }
+}
@@ -0,0 +1,194 @@
+package com.dedalus.interview.controller;
+
+import com.dedalus.interview.entity.Department;
+import com.dedalus.interview.repository.DepartmentRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the list endpoints against N+1 regressions: each one must be served by a fixed number of
+ * SQL statements, no matter how many employees or departments are returned.
+ */
+@QuarkusTest
+class EmployeeControllerStatementCountTest {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    EncodedResponseCache responseCache;
+
+    @Inject
+    DepartmentRepository departmentRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory.getCache().evictAllRegions();
+        responseCache.clear();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllEmployees_ShouldUseOneStatement() {
+        assertStatementCount("/api/employees", 1);
+    }
+
+    @Test
+    void searchEmployees_ShouldUseOneStatement() {
+        assertStatementCount("/api/employees?search=o", 1);
+    }
+
+    @Test
+    void getEmployeesByDepartment_ShouldUseOneStatement() {
+        assertStatementCount("/api/employees/department/1", 1);
+    }
+
+    @Test
+    void searchEmployeesInDepartment_ShouldUseOneStatement() {
+        assertStatementCount("/api/employees/department/1?search=j", 1);
+    }
+
+    @Test
+    void getUnassignedEmployees_ShouldUseOneStatement() {
+        assertStatementCount("/api/employees/unassigned", 1);
+    }
+
+    @Test
+    void getAllEmployees_WalkingPages_ShouldUseOneStatementPerPage() {
+        List<Integer> unpagedIds = given().when().get("/api/employees").then().statusCode(200)
+                .extract().jsonPath().getList("id", Integer.class);
+        statistics.clear();
+
+        List<Integer> pagedIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Response response = given().queryParam("limit", 3)
+                    .queryParam("after", cursor != null ? cursor : "")
+                    .when().get("/api/employees");
+            response.then().statusCode(200);
+            pagedIds.addAll(response.jsonPath().getList("id", Integer.class));
+            cursor = response.getHeader(EmployeeController.NEXT_CURSOR_HEADER);
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(unpagedIds, pagedIds);
+        assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getDepartmentOverviews_ShouldUseTwoStatements() {
+        assertStatementCount("/api/departments/overview?employees=20", 2);
+    }
+
+    @Test
+    void getDepartmentOverviews_CountsOnly_ShouldUseOneStatement() {
+        assertStatementCount("/api/departments/overview?employees=0", 1);
+    }
+
+    @Test
+    void getAllDepartments_ShouldUseOneStatement() {
+        assertStatementCount("/api/departments", 1);
+    }
+
+    @Test
+    void getAllDepartments_Repeated_ShouldBeServedFromCachesUntilDataChanges() {
+        assertStatementCount("/api/departments", 1);
+        assertStatementCount("/api/departments", 0);
+        assertEquals(0, statistics.getQueryCacheHitCount(), "repeated JSON must be served as cached bytes");
+
+        long before = statistics.getPrepareStatementCount();
+        given().accept(CborMessageBodyWriter.CBOR).when().get("/api/departments").then().statusCode(200);
+        assertEquals(before, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount(), "first CBOR encoding must reuse the query cache");
+
+        int departmentId = given().contentType(ContentType.JSON).body("{\"name\": \"Cache Busting\"}")
+                .when().post("/api/departments")
+                .then().statusCode(201)
+                .extract().path("id");
+        statistics.clear();
+        given().when().get("/api/departments").then().statusCode(200)
+                .body("name", hasItem("Cache Busting"));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        given().when().delete("/api/departments/" + departmentId).then().statusCode(204);
+    }
+
+    @Test
+    void getAllEmployees_WithMatchingETag_ShouldNotQueryTheDatabase() {
+        String etag = given().when().get("/api/employees").then().statusCode(200)
+                .extract().header("ETag");
+        statistics.clear();
+
+        given().header("If-None-Match", etag).when().get("/api/employees").then().statusCode(304);
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void createEmployee_ShouldUseOnlyTheInsertAndHeadcountUpdate() {
+        // The first create may have to fetch a new block of ids from the sequence
+        int warmUpId = createEmployee("Seq Warmup", "seq.warmup@company.com");
+        statistics.clear();
+
+        int id = createEmployee("Single Insert", "single.insert@company.com");
+
+        assertEquals(2, statistics.getPrepareStatementCount(), "SQL statements for POST /api/employees");
+        given().when().delete("/api/employees/" + warmUpId).then().statusCode(204);
+        given().when().delete("/api/employees/" + id).then().statusCode(204);
+    }
+
+    @Test
+    void createEmployee_ShouldKeepDepartmentsInSecondLevelCache() {
+        QuarkusTransaction.requiringNew().run(() -> departmentRepository.findByIdOptional(1L));
+        int id = createEmployee("Cached Department", "cached.department@company.com", 1L);
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Department.class.getName());
+        long hitsBefore = region.getHitCount();
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        QuarkusTransaction.requiringNew().run(() -> assertTrue(departmentRepository.findByIdOptional(1L).isPresent()));
+
+        assertEquals(hitsBefore + 1, region.getHitCount(), "department must still be an L2 hit after an employee write");
+        assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+        given().when().delete("/api/employees/" + id).then().statusCode(204);
+    }
+
+    private int createEmployee(String fullName, String email) {
+        return createEmployee(fullName, email, null);
+    }
+
+    private int createEmployee(String fullName, String email, Long departmentId) {
+        return given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"" + fullName + "\", \"email\": \"" + email + "\""
+                        + (departmentId != null ? ", \"department\": {\"id\": " + departmentId + "}" : "") + "}")
+                .when().post("/api/employees")
+                .then().statusCode(201)
+                .extract().path("id");
+    }
+
+    private void assertStatementCount(String path, long expected) {
+        long before = statistics.getPrepareStatementCount();
+        given().when().get(path).then().statusCode(200);
+
+        assertEquals(expected, statistics.getPrepareStatementCount() - before, "SQL statements for GET " + path);
+        assertEquals(0, statistics.getEntityLoadCount(), "Entities loaded for GET " + path);
+    }
+}
@@ -0,0 +1,289 @@
+package com.dedalus.interview.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class EmployeeControllerTest {
+
+    @Test
+    void suggestEmployees_ShouldReflectCommittedCreatesAndDeletes() {
+        given().queryParam("q", "zebedee").when().get("/api/employees/suggest")
+                .then().statusCode(200).body("$", empty());
+
+        int id = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Zebedee Quill\", \"email\": \"zquill@company.com\"}")
+                .when().post("/api/employees")
+                .then().statusCode(201)
+                .extract().path("id");
+
+        given().queryParam("q", "zebedee q").when().get("/api/employees/suggest")
+                .then().statusCode(200).body("id", contains(id));
+        given().queryParam("q", "zqu").when().get("/api/employees/suggest")
+                .then().statusCode(200).body("fullName", contains("Zebedee Quill"));
+
+        given().when().delete("/api/employees/" + id).then().statusCode(204);
+
+        given().queryParam("q", "zebedee").when().get("/api/employees/suggest")
+                .then().statusCode(200).body("$", empty());
+    }
+
+    @Test
+    void exportEmployees_AsNdjson_ShouldWriteOneJsonObjectPerEmployee() {
+        int employeeCount = given().when().get("/api/employees").then().statusCode(200)
+                .extract().jsonPath().getList("$").size();
+
+        String body = given().queryParam("format", "ndjson").when().get("/api/employees/export")
+                .then().statusCode(200).contentType("application/x-ndjson")
+                .extract().asString();
+
+        String[] lines = body.split("\n");
+        assertEquals(employeeCount, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"fullName\":\"Alice Brown\""));
+    }
+
+    @Test
+    void exportEmployees_AsCsv_ShouldWriteHeaderAndQuoteFieldsWithCommas() {
+        String body = given().queryParam("format", "csv").when().get("/api/employees/export")
+                .then().statusCode(200).contentType("text/csv")
+                .extract().asString();
+
+        String[] lines = body.split("\n");
+        assertEquals("id,fullName,email,phone,address,departmentId,departmentName", lines[0]);
+        assertTrue(lines[1].contains(",Alice Brown,alice.brown@company.com,+1-555-0104,\"321 Elm St, Nowhere, USA\","));
+    }
+
+    @Test
+    void exportEmployees_WithUnknownFormat_ShouldReturnBadRequest() {
+        given().queryParam("format", "xml").when().get("/api/employees/export")
+                .then().statusCode(400);
+    }
+
+    @Test
+    void importEmployees_FromCsv_ShouldInsertValidRowsAndReportRejectedOnes() {
+        String csv = "fullName,email,phone,address,departmentId\n" +
+                "Imported One,imported.one@company.com,+1-555-0201,\"1 First St, Town\",1\n" +
+                "Imported Two,imported.two@company.com,,,\n" +
+                "Duplicate Email,john.doe@company.com,,,\n" +
+                ",missing.name@company.com,,,\n" +
+                "Bad Department,bad.department@company.com,,,999\n";
+
+        given().contentType("text/csv").body(csv)
+                .when().post("/api/employees/import")
+                .then().statusCode(200)
+                .body("imported", is(2))
+                .body("rejected", is(3))
+                .body("errors.line", contains(4, 5, 6));
+
+        List<Integer> ids = given().queryParam("search", "Imported").when().get("/api/employees")
+                .then().statusCode(200)
+                .body("address", hasItem("1 First St, Town"))
+                .extract().jsonPath().getList("id", Integer.class);
+        assertEquals(2, ids.size());
+
+        ids.forEach(id -> given().when().delete("/api/employees/" + id).then().statusCode(204));
+    }
+
+    @Test
+    void importEmployees_FromNdjson_ShouldImportExportLayout() {
+        String ndjson = "{\"fullName\":\"Nd Json\",\"email\":\"nd.json@company.com\",\"departmentId\":2}\n" +
+                "not json\n";
+
+        given().contentType("application/x-ndjson").body(ndjson.getBytes(StandardCharsets.UTF_8))
+                .when().post("/api/employees/import")
+                .then().statusCode(200)
+                .body("imported", is(1))
+                .body("errors[0].message", is("Malformed JSON"));
+
+        int id = given().queryParam("search", "Nd Json").when().get("/api/employees")
+                .then().statusCode(200)
+                .body("departmentId", contains(2))
+                .extract().path("[0].id");
+        given().when().delete("/api/employees/" + id).then().statusCode(204);
+    }
+
+    @Test
+    void reassignEmployees_ThenDeleteDepartment_ShouldMoveEmployeesInBulk() {
+        List<Integer> unassignedIds = given().when().get("/api/employees/unassigned")
+                .then().statusCode(200)
+                .extract().jsonPath().getList("id", Integer.class);
+        int departmentId = given().contentType(ContentType.JSON).body("{\"name\": \"Reorg\"}")
+                .when().post("/api/departments")
+                .then().statusCode(201)
+                .extract().path("id");
+
+        given().contentType(ContentType.JSON).body("{\"employeeIds\": " + unassignedIds + "}")
+                .when().put("/api/employees/department/" + departmentId)
+                .then().statusCode(200).body("updated", is(unassignedIds.size()));
+        given().when().get("/api/employees/unassigned").then().statusCode(200).body("$", empty());
+        given().queryParam("q", "eve").when().get("/api/employees/suggest")
+                .then().statusCode(200).body("departmentId", contains(departmentId));
+
+        given().when().delete("/api/departments/" + departmentId).then().statusCode(204);
+
+        given().when().get("/api/employees/unassigned").then().statusCode(200)
+                .body("id", containsInAnyOrder(unassignedIds.toArray()));
+        given().queryParam("q", "eve").when().get("/api/employees/suggest")
+                .then().statusCode(200).body("[0].departmentId", nullValue());
+    }
+
+    @Test
+    void reassignEmployees_ToUnknownDepartment_ShouldReturnNotFound() {
+        given().contentType(ContentType.JSON).body("{\"fromDepartmentId\": 1}")
+                .when().put("/api/employees/department/999999")
+                .then().statusCode(404);
+    }
+
+    @Test
+    void getEmployeesByDepartment_WithMatchingETag_ShouldReturnNotModifiedUntilDepartmentChanges() {
+        String departmentETag = given().when().get("/api/employees/department/2")
+                .then().statusCode(200).header("ETag", notNullValue()).header("Cache-Control", "no-cache")
+                .extract().header("ETag");
+        String allETag = given().when().get("/api/employees").then().statusCode(200)
+                .extract().header("ETag");
+
+        given().header("If-None-Match", departmentETag).when().get("/api/employees/department/2")
+                .then().statusCode(304).header("Cache-Control", "no-cache");
+
+        int id = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Etag Probe\", \"department\": {\"id\": 3}}")
+                .when().post("/api/employees")
+                .then().statusCode(201)
+                .extract().path("id");
+
+        given().header("If-None-Match", departmentETag).when().get("/api/employees/department/2")
+                .then().statusCode(304);
+        given().header("If-None-Match", allETag).when().get("/api/employees")
+                .then().statusCode(200).body("fullName", hasItem("Etag Probe"));
+
+        given().when().delete("/api/employees/" + id).then().statusCode(204);
+    }
+
+    @Test
+    void createEmployee_ConcurrentDuplicateEmails_ShouldAcceptExactlyOne() throws Exception {
+        String body = "{\"fullName\": \"Dup Licate\", \"email\": \"dup.licate@company.com\"}";
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Response>> creates = Collections.nCopies(8, () -> given().contentType(ContentType.JSON)
+                    .body(body).when().post("/api/employees").then().extract().response());
+            List<Response> responses = new ArrayList<>();
+            for (Future<Response> future : executor.invokeAll(creates)) {
+                responses.add(future.get());
+            }
+
+            List<Response> created = responses.stream().filter(r -> r.statusCode() == 201).toList();
+            assertEquals(1, created.size());
+            assertTrue(responses.stream().allMatch(r -> r.statusCode() == 201 || r.statusCode() == 400));
+            given().when().delete("/api/employees/" + created.get(0).path("id")).then().statusCode(204);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void createEmployee_WithBlankEmails_ShouldStoreNoEmailAndAcceptSeveral() {
+        int first = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Blank One\", \"email\": \"\"}")
+                .when().post("/api/employees")
+                .then().statusCode(201).body("email", nullValue())
+                .extract().path("id");
+        int second = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Blank Two\", \"email\": \"\"}")
+                .when().post("/api/employees")
+                .then().statusCode(201).body("email", nullValue())
+                .extract().path("id");
+
+        given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Blank One\", \"email\": \"\"}")
+                .when().put("/api/employees/" + first)
+                .then().statusCode(200).body("email", nullValue());
+
+        given().when().delete("/api/employees/" + first).then().statusCode(204);
+        given().when().delete("/api/employees/" + second).then().statusCode(204);
+    }
+
+    @Test
+    void updateEmployee_ToEmailOfAnotherEmployee_ShouldReturnBadRequestAndKeepOriginal() {
+        int id = given().queryParam("search", "John Doe").when().get("/api/employees")
+                .then().statusCode(200).extract().path("[0].id");
+
+        given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"John Doe\", \"email\": \"jane.smith@company.com\"}")
+                .when().put("/api/employees/" + id)
+                .then().statusCode(400)
+                .body("message", equalTo("Employee with email 'jane.smith@company.com' already exists"));
+
+        given().when().get("/api/employees/" + id)
+                .then().statusCode(200).body("email", equalTo("john.doe@company.com"));
+    }
+
+    @Test
+    void lookupEmployees_ShouldReturnResultsInRequestOrderWithMissingIdsMarked() {
+        int id = given().queryParam("search", "Jane Smith").when().get("/api/employees")
+                .then().statusCode(200).extract().path("[0].id");
+
+        given().contentType(ContentType.JSON)
+                .body("{\"ids\": [999999, " + id + "]}")
+                .when().post("/api/employees/lookup")
+                .then().statusCode(200)
+                .body("size()", is(2))
+                .body("[0].id", is(999999))
+                .body("[0].found", is(false))
+                .body("[0].employee", nullValue())
+                .body("[1].id", is(id))
+                .body("[1].found", is(true))
+                .body("[1].employee.email", equalTo("jane.smith@company.com"))
+                .body("[1].employee.departmentName", notNullValue());
+    }
+
+    @Test
+    void lookupEmployees_WithoutIds_ShouldReturnBadRequest() {
+        given().contentType(ContentType.JSON)
+                .body("{}")
+                .when().post("/api/employees/lookup")
+                .then().statusCode(400)
+                .body("message", equalTo("ids is required"));
+    }
+
+    @Test
+    void getAllEmployees_WithFields_ShouldOnlySerializeSelectedFields() {
+        given().queryParam("fields", "departmentName").queryParam("search", "John Doe")
+                .when().get("/api/employees")
+                .then().statusCode(200)
+                .body("size()", is(1))
+                .body("[0].keySet()", containsInAnyOrder("id", "fullName", "departmentName"))
+                .body("[0].fullName", equalTo("John Doe"));
+
+        given().queryParam("fields", "email").queryParam("limit", 2)
+                .when().get("/api/employees/unassigned")
+                .then().statusCode(200)
+                .body("[0].keySet()", containsInAnyOrder("id", "fullName", "email"));
+
+        given().queryParam("search", "John Doe")
+                .when().get("/api/employees")
+                .then().statusCode(200)
+                .body("[0].keySet()", hasItems("email", "phone", "address", "departmentId", "departmentName"));
+    }
+
+    @Test
+    void getAllEmployees_WithUnknownField_ShouldReturnBadRequest() {
+        given().queryParam("fields", "salary")
+                .when().get("/api/employees")
+                .then().statusCode(400);
+    }
+}
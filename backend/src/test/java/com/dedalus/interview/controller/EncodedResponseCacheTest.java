@@ -0,0 +1,79 @@
+package com.dedalus.interview.controller;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class EncodedResponseCacheTest {
+
+    @TestHTTPResource("/api/departments")
+    URI departments;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void getAllDepartments_AcceptingGzip_ShouldReturnTheCompressedIdentityBody() throws Exception {
+        HttpResponse<byte[]> identity = get(null);
+        HttpResponse<byte[]> gzip = get("gzip, deflate");
+
+        assertEquals(200, identity.statusCode());
+        assertTrue(identity.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals("gzip", gzip.headers().firstValue("Content-Encoding").orElseThrow());
+        assertTrue(String.join(",", gzip.headers().allValues("Vary")).contains("Accept-Encoding"),
+                () -> "Vary: " + gzip.headers().allValues("Vary"));
+        assertArrayEquals(identity.body(), new GZIPInputStream(new ByteArrayInputStream(gzip.body())).readAllBytes());
+        assertNotEquals(identity.headers().firstValue("ETag"), gzip.headers().firstValue("ETag"));
+    }
+
+    @Test
+    void getAllDepartments_AfterWrite_ShouldRebuildTheCachedBody() throws Exception {
+        assertFalse(body(get("gzip")).contains("Cached Bytes"));
+
+        int departmentId = given().contentType(ContentType.JSON).body("{\"name\": \"Cached Bytes\"}")
+                .when().post("/api/departments")
+                .then().statusCode(201)
+                .extract().path("id");
+        try {
+            assertTrue(body(get("gzip")).contains("Cached Bytes"));
+            assertTrue(new String(get(null).body(), StandardCharsets.UTF_8).contains("Cached Bytes"));
+        } finally {
+            given().when().delete("/api/departments/" + departmentId).then().statusCode(204);
+        }
+        assertFalse(body(get("gzip")).contains("Cached Bytes"));
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourQualityValues() {
+        assertTrue(EncodedResponseCache.acceptsGzip("gzip"));
+        assertTrue(EncodedResponseCache.acceptsGzip("br, GZIP;q=0.5"));
+        assertTrue(EncodedResponseCache.acceptsGzip("*"));
+        assertFalse(EncodedResponseCache.acceptsGzip(null));
+        assertFalse(EncodedResponseCache.acceptsGzip("identity"));
+        assertFalse(EncodedResponseCache.acceptsGzip("gzip;q=0"));
+    }
+
+    private HttpResponse<byte[]> get(String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(departments).header("Accept", "application/json");
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String body(HttpResponse<byte[]> gzipped) throws Exception {
+        return new String(new GZIPInputStream(new ByteArrayInputStream(gzipped.body())).readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
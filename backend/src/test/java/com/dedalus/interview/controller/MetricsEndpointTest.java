@@ -0,0 +1,27 @@
+package com.dedalus.interview.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+class MetricsEndpointTest {
+
+    @Test
+    void metrics_ShouldExposeEndpointHistogramsServiceTimersHibernateAndPoolStatistics() {
+        given().when().get("/api/employees/1").then().statusCode(200);
+        given().when().get("/api/departments").then().statusCode(200);
+
+        given().when().get("/q/metrics")
+                .then().statusCode(200)
+                .body(containsString("http_server_requests_seconds_bucket{method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/api/employees/{id}\",le="),
+                        containsString("service_method_seconds_bucket{"),
+                        containsString("class=\"com.dedalus.interview.service.DepartmentService\",exception=\"none\",method=\"getDepartmentSummaries\""),
+                        containsString("hibernate_query_executions_total"),
+                        containsString("hibernate_second_level_cache_requests_total"),
+                        containsString("agroal_active_count{datasource=\"default\"}"),
+                        containsString("agroal_blocking_time_max_milliseconds"));
+    }
+}
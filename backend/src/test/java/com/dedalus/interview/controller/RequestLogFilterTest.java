@@ -0,0 +1,79 @@
+package com.dedalus.interview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class RequestLogFilterTest {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private final List<String> auditLines = new CopyOnWriteArrayList<>();
+
+    private final Handler capture = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            auditLines.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @BeforeEach
+    void addHandler() {
+        RequestLogFilter.auditLogger.addHandler(capture);
+    }
+
+    @AfterEach
+    void removeHandler() {
+        RequestLogFilter.auditLogger.removeHandler(capture);
+    }
+
+    @Test
+    void writes_ShouldBeLoggedAsOneAuditLineEach() throws Exception {
+        given().when().get("/api/employees/1").then().statusCode(200);
+
+        int id = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Audit Trail\", \"email\": \"audit.trail@company.com\"}")
+                .when().post("/api/employees")
+                .then().statusCode(201)
+                .extract().path("id");
+        given().when().delete("/api/employees/" + id).then().statusCode(204);
+
+        assertEquals(2, auditLines.size(), () -> "expected only the two writes: " + auditLines);
+
+        JsonNode create = objectMapper.readTree(auditLines.get(0));
+        assertEquals("audit", create.get("type").asText());
+        assertEquals("POST", create.get("method").asText());
+        assertEquals("/api/employees", create.get("path").asText());
+        assertEquals("EmployeeController.createEmployee", create.get("endpoint").asText());
+        assertEquals(201, create.get("status").asInt());
+        assertTrue(create.get("durationMs").asDouble() >= 0);
+
+        JsonNode delete = objectMapper.readTree(auditLines.get(1));
+        assertEquals("DELETE", delete.get("method").asText());
+        assertEquals("EmployeeController.deleteEmployee", delete.get("endpoint").asText());
+        assertEquals(String.valueOf(id), delete.get("pathParams").get("id").get(0).asText());
+    }
+}
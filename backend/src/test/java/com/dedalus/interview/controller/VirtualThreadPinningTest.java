@@ -0,0 +1,68 @@
+package com.dedalus.interview.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the blocking endpoints under a JFR stream and fails if any virtual thread parks while pinned
+ * to its carrier (e.g. blocking on JDBC inside a {@code synchronized} block).
+ */
+@QuarkusTest
+class VirtualThreadPinningTest {
+
+    @Test
+    void controllers_ShouldRunOnVirtualThreadsWithoutPinningCarriers() {
+        List<RecordedEvent> started = new CopyOnWriteArrayList<>();
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable("jdk.VirtualThreadStart");
+            stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent("jdk.VirtualThreadStart", started::add);
+            stream.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            stream.startAsync();
+
+            exerciseReadsAndWrites();
+
+            stream.stop();
+        }
+
+        assertFalse(started.isEmpty(), "requests should have been served on virtual threads");
+        assertTrue(pinned.isEmpty(), () -> "carrier threads were pinned:\n" + pinned.stream()
+                .map(event -> String.valueOf(event.getStackTrace()))
+                .collect(Collectors.joining("\n")));
+    }
+
+    private void exerciseReadsAndWrites() {
+        given().when().get("/api/departments").then().statusCode(200);
+        given().when().get("/api/employees").then().statusCode(200);
+        given().queryParam("limit", 2).when().get("/api/employees/department/1").then().statusCode(200);
+
+        int departmentId = given().contentType(ContentType.JSON)
+                .body("{\"name\": \"Pinning Check\"}")
+                .when().post("/api/departments")
+                .then().statusCode(201)
+                .extract().path("id");
+        int employeeId = given().contentType(ContentType.JSON)
+                .body("{\"fullName\": \"Vera Thread\", \"email\": \"vthread@company.com\"}")
+                .when().post("/api/employees")
+                .then().statusCode(201)
+                .extract().path("id");
+
+        given().when().put("/api/employees/" + employeeId + "/department/" + departmentId)
+                .then().statusCode(200);
+        given().when().delete("/api/departments/" + departmentId).then().statusCode(204);
+        given().when().delete("/api/employees/" + employeeId).then().statusCode(204);
+    }
+}
@@ -0,0 +1,53 @@
+package com.dedalus.interview.repository;
+
+import com.dedalus.interview.dto.DepartmentSummaryDto;
+import com.dedalus.interview.entity.Department;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class DepartmentRepositoryTest {
+
+    @Inject
+    DepartmentRepository departmentRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    @Transactional
+    void findAllSummaries_ShouldCountEmployeesPerDepartmentAndUnassigned() {
+        List<DepartmentSummaryDto> summaries = departmentRepository.findAllSummaries();
+
+        assertEquals(5, summaries.size());
+        assertEquals("Engineering", summaries.get(0).getName());
+        assertEquals(3, summaries.get(0).getEmployeeCount());
+
+        DepartmentSummaryDto unassigned = summaries.get(summaries.size() - 1);
+        assertNull(unassigned.getId());
+        assertEquals("Unassigned", unassigned.getName());
+        assertEquals(2, unassigned.getEmployeeCount());
+    }
+
+    @Test
+    void findByIdOptional_ShouldBeServedFromSecondLevelCacheAcrossTransactions() {
+        sessionFactory.getCache().evictAllRegions();
+        CacheRegionStatistics region = sessionFactory.getStatistics()
+                .getDomainDataRegionStatistics(Department.class.getName());
+        long hitsBefore = region.getHitCount();
+
+        QuarkusTransaction.requiringNew().run(() -> assertTrue(departmentRepository.findByIdOptional(1L).isPresent()));
+        QuarkusTransaction.requiringNew().run(() -> assertTrue(departmentRepository.findByIdOptional(1L).isPresent()));
+
+        assertEquals(hitsBefore + 1, region.getHitCount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.dedalus.interview.repository;
+
+import com.dedalus.interview.dto.EmployeeSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto.Field;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class EmployeeRepositoryTest {
+
+    @Inject
+    EmployeeRepository employeeRepository;
+
+    @Test
+    @Transactional
+    void findSummariesByFullNameContainingIgnoreCase_ShouldMatchSubstringIgnoringCase() {
+        List<EmployeeSummaryDto> result = employeeRepository.findSummariesByFullNameContainingIgnoreCase("JOHN", null, 0, EmployeeSummaryDto.ALL_FIELDS);
+
+        List<String> names = result.stream().map(EmployeeSummaryDto::getFullName).collect(Collectors.toList());
+        assertEquals(List.of("Bob Johnson", "John Doe"), names);
+    }
+
+    @Test
+    @Transactional
+    void findSummariesByFullNameContainingIgnoreCase_ShouldTreatWildcardsLiterally() {
+        assertTrue(employeeRepository.findSummariesByFullNameContainingIgnoreCase("%", null, 0, EmployeeSummaryDto.ALL_FIELDS).isEmpty());
+        assertTrue(employeeRepository.findSummariesByFullNameContainingIgnoreCase("_", null, 0, EmployeeSummaryDto.ALL_FIELDS).isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void findSummariesByDepartmentId_WithSparseFields_ShouldOnlyPopulateSelectedFields() {
+        Set<Field> fields = EmployeeSummaryDto.parseFields("departmentName");
+        Long departmentId = employeeRepository.findSummariesByFullNameContainingIgnoreCase("John Doe", null, 0,
+                EmployeeSummaryDto.ALL_FIELDS).get(0).getDepartmentId();
+
+        List<EmployeeSummaryDto> result = employeeRepository.findSummariesByDepartmentId(departmentId, null, 0, fields);
+
+        assertFalse(result.isEmpty());
+        for (EmployeeSummaryDto summary : result) {
+            assertNotNull(summary.getId());
+            assertNotNull(summary.getFullName());
+            assertNotNull(summary.getDepartmentName());
+            assertNull(summary.getEmail());
+            assertNull(summary.getDepartmentId());
+            assertFalse(summary.isIncluded("email"));
+            assertTrue(summary.isIncluded("departmentName"));
+        }
+    }
+
+    @Test
+    @Transactional
+    void findFirstSummariesPerDepartment_ShouldReturnEachDepartmentsFirstEmployeesInListOrder() {
+        Map<Long, List<EmployeeSummaryDto>> all = employeeRepository.findAllSummaries(null, 0, EmployeeSummaryDto.ALL_FIELDS)
+                .stream().collect(Collectors.groupingBy(summary -> Objects.requireNonNullElse(summary.getDepartmentId(), -1L)));
+
+        Map<Long, List<EmployeeSummaryDto>> firstTwo = employeeRepository.findFirstSummariesPerDepartment(2,
+                EmployeeSummaryDto.parseFields("departmentName"));
+
+        assertEquals(all.size(), firstTwo.size());
+        firstTwo.forEach((departmentId, employees) -> {
+            List<Long> expected = all.get(Objects.requireNonNullElse(departmentId, -1L)).stream()
+                    .limit(2).map(EmployeeSummaryDto::getId).toList();
+            assertEquals(expected, employees.stream().map(EmployeeSummaryDto::getId).toList());
+            assertNull(employees.get(0).getEmail());
+            assertNotNull(employees.get(0).getDepartmentName());
+        });
+    }
+}
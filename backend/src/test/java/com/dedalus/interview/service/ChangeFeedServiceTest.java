@@ -0,0 +1,100 @@
+package com.dedalus.interview.service;
+
+import com.dedalus.interview.dto.ChangeEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedServiceTest {
+
+    private ChangeFeedService changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        changeFeed = new ChangeFeedService();
+        changeFeed.bufferSize = 3;
+    }
+
+    @Test
+    void subscribe_WithoutSequence_ShouldSendSyncThenLiveChanges() {
+        List<ChangeEventDto> received = new ArrayList<>();
+        long start = changeFeed.lastSequence();
+
+        changeFeed.subscribe(null, received::add);
+        changeFeed.publish(List.of(ChangeEventDto.departmentDeleted(1L)));
+
+        assertEquals(2, received.size());
+        assertEquals(ChangeEventDto.Type.SYNC, received.get(0).getType());
+        assertEquals(start, received.get(0).getSequence());
+        assertEquals(start + 1, received.get(1).getSequence());
+    }
+
+    @Test
+    void subscribe_WithBufferedSequence_ShouldReplayOnlyLaterChanges() {
+        changeFeed.publish(List.of(ChangeEventDto.departmentDeleted(1L)));
+        long seen = changeFeed.lastSequence();
+        changeFeed.publish(List.of(ChangeEventDto.departmentDeleted(2L)));
+        changeFeed.publish(List.of(ChangeEventDto.departmentDeleted(3L)));
+
+        List<ChangeEventDto> received = new ArrayList<>();
+        changeFeed.subscribe(seen, received::add);
+
+        assertEquals(List.of(2L, 3L), received.stream().map(ChangeEventDto::getId).toList());
+    }
+
+    @Test
+    void subscribe_WithSequenceOlderThanBuffer_ShouldSendSync() {
+        long seen = changeFeed.lastSequence();
+        for (long id = 1; id <= 4; id++) {
+            changeFeed.publish(List.of(ChangeEventDto.departmentDeleted(id)));
+        }
+
+        List<ChangeEventDto> received = new ArrayList<>();
+        changeFeed.subscribe(seen, received::add);
+
+        assertEquals(1, received.size());
+        assertEquals(ChangeEventDto.Type.SYNC, received.get(0).getType());
+        assertEquals(changeFeed.lastSequence(), received.get(0).getSequence());
+    }
+
+    @Test
+    void subscribe_WithSequenceFromAnotherRun_ShouldSendSync() {
+        List<ChangeEventDto> received = new ArrayList<>();
+
+        changeFeed.subscribe(changeFeed.lastSequence() + 100, received::add);
+        changeFeed.subscribe(42L, received::add);
+
+        assertTrue(received.stream().allMatch(event -> event.getType() == ChangeEventDto.Type.SYNC));
+    }
+
+    @Test
+    void unsubscribe_ShouldStopDelivery() {
+        List<ChangeEventDto> received = new ArrayList<>();
+        Consumer<ChangeEventDto> subscriber = received::add;
+        changeFeed.subscribe(changeFeed.lastSequence(), subscriber);
+        changeFeed.publish(List.of(ChangeEventDto.departmentDeleted(1L)));
+
+        changeFeed.unsubscribe(subscriber);
+        changeFeed.publish(List.of(ChangeEventDto.departmentDeleted(2L)));
+
+        assertEquals(List.of(1L), received.stream().map(ChangeEventDto::getId).toList());
+    }
+
+    @Test
+    void publish_ShouldCallSubscribersWithoutHoldingTheFeed() {
+        List<Long> seenByOtherThread = new ArrayList<>();
+        changeFeed.subscribe(changeFeed.lastSequence(), change -> seenByOtherThread.add(
+                CompletableFuture.supplyAsync(changeFeed::lastSequence).orTimeout(5, TimeUnit.SECONDS).join()));
+
+        changeFeed.publish(List.of(ChangeEventDto.departmentDeleted(1L)));
+
+        assertEquals(List.of(changeFeed.lastSequence()), seenByOtherThread);
+    }
+}
@@ -0,0 +1,68 @@
+package com.dedalus.interview.service;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataVersionServiceTest {
+
+    @Mock
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @InjectMocks
+    DataVersionService dataVersion;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionRegistry.getTransactionStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+    }
+
+    @Test
+    void changed_ShouldOnlyChangeVersionsOfAffectedDepartments() {
+        String global = dataVersion.globalVersion();
+        String engineering = dataVersion.departmentVersion(1L);
+        String finance = dataVersion.departmentVersion(2L);
+        String unassigned = dataVersion.departmentVersion(null);
+
+        dataVersion.changed(1L, null);
+
+        assertNotEquals(global, dataVersion.globalVersion());
+        assertNotEquals(engineering, dataVersion.departmentVersion(1L));
+        assertNotEquals(unassigned, dataVersion.departmentVersion(null));
+        assertEquals(finance, dataVersion.departmentVersion(2L));
+    }
+
+    @Test
+    void changedEverywhere_ShouldChangeEveryDepartmentVersion() {
+        String finance = dataVersion.departmentVersion(2L);
+
+        dataVersion.changedEverywhere();
+
+        assertNotEquals(finance, dataVersion.departmentVersion(2L));
+    }
+
+    @Test
+    void changed_InTransaction_ShouldChangeVersionAgainOnCompletion() {
+        when(transactionRegistry.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+
+        dataVersion.changed(1L);
+        String duringTransaction = dataVersion.departmentVersion(1L);
+
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+        verify(transactionRegistry).registerInterposedSynchronization(synchronization.capture());
+        synchronization.getValue().afterCompletion(Status.STATUS_COMMITTED);
+
+        assertNotEquals(duringTransaction, dataVersion.departmentVersion(1L));
+    }
+}
@@ -1,5 +1,9 @@
 package com.dedalus.interview.service;
 
+import com.dedalus.interview.dto.ChangeEventDto;
+import com.dedalus.interview.dto.DepartmentOverviewDto;
+import com.dedalus.interview.dto.DepartmentSummaryDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
 import com.dedalus.interview.entity.Department;
 import com.dedalus.interview.entity.Employee;
 import com.dedalus.interview.repository.DepartmentRepository;
@@ -9,12 +13,15 @@ import jakarta.ws.rs.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,6 +36,15 @@ class DepartmentServiceTest {
     @Mock
     EmployeeRepository employeeRepository;
 
+    @Mock
+    EmployeeService employeeService;
+
+    @Mock
+    DataVersionService dataVersion;
+
+    @Mock
+    ChangeFeedService changeFeed;
+
     @InjectMocks
     DepartmentService departmentService;
 
@@ -46,15 +62,46 @@ class DepartmentServiceTest {
     }
 
     @Test
-    void getAllDepartments_ShouldReturnAllDepartments() {
-        List<Department> departments = Arrays.asList(testDepartment);
-        when(departmentRepository.findAllWithEmployeeCounts()).thenReturn(departments);
+    void getDepartmentSummaries_ShouldReturnRepositorySummaries() {
+        List<DepartmentSummaryDto> summaries = Arrays.asList(
+                new DepartmentSummaryDto(1L, "Engineering", 3),
+                new DepartmentSummaryDto(null, "Unassigned", 2));
+        when(departmentRepository.findAllSummaries()).thenReturn(summaries);
+
+        List<DepartmentSummaryDto> result = departmentService.getDepartmentSummaries();
+
+        assertEquals(2, result.size());
+        assertEquals("Unassigned", result.get(1).getName());
+        verify(departmentRepository).findAllSummaries();
+        verifyNoInteractions(employeeRepository);
+    }
 
-        List<Department> result = departmentService.getAllDepartments();
+    @Test
+    void getDepartmentOverviews_ShouldAttachEachDepartmentsFirstEmployees() {
+        EmployeeSummaryDto unassigned = new EmployeeSummaryDto(2L, "Jane Roe", null, null, null, null, null);
+        Map<Long, List<EmployeeSummaryDto>> employees = new HashMap<>();
+        employees.put(null, List.of(unassigned));
+        when(departmentRepository.findAllSummaries()).thenReturn(Arrays.asList(
+                new DepartmentSummaryDto(1L, "Engineering", 0),
+                new DepartmentSummaryDto(null, "Unassigned", 1)));
+        when(employeeRepository.findFirstSummariesPerDepartment(20, EmployeeSummaryDto.ALL_FIELDS)).thenReturn(employees);
+
+        List<DepartmentOverviewDto> result = departmentService.getDepartmentOverviews(20, EmployeeSummaryDto.ALL_FIELDS);
+
+        assertEquals(List.of(), result.get(0).getEmployees());
+        assertEquals(List.of(unassigned), result.get(1).getEmployees());
+        assertEquals(1, result.get(1).getEmployeeCount());
+    }
 
-        assertEquals(1, result.size());
-        assertEquals("Engineering", result.get(0).getName());
-        verify(departmentRepository).findAllWithEmployeeCounts();
+    @Test
+    void getDepartmentOverviews_WithoutEmployees_ShouldOnlyReadSummaries() {
+        when(departmentRepository.findAllSummaries()).thenReturn(Arrays.asList(new DepartmentSummaryDto(1L, "Engineering", 3)));
+
+        List<DepartmentOverviewDto> result = departmentService.getDepartmentOverviews(0, EmployeeSummaryDto.ALL_FIELDS);
+
+        assertEquals(3, result.get(0).getEmployeeCount());
+        assertNull(result.get(0).getEmployees());
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
@@ -108,23 +155,16 @@ class DepartmentServiceTest {
 
     @Test
     void deleteDepartment_ShouldMoveEmployeesToUnassigned() {
-        List<Employee> employees = Arrays.asList(testEmployee);
         when(departmentRepository.findByIdOptional(1L)).thenReturn(Optional.of(testDepartment));
-        when(employeeRepository.findByDepartmentId(1L)).thenReturn(employees);
+        when(employeeService.moveAllEmployees(1L, null)).thenReturn(1);
 
         departmentService.deleteDepartment(1L);
 
-        assertNull(testEmployee.getDepartment());
-        verify(departmentRepository).delete(testDepartment);
-    }
-
-    @Test
-    void getUnassignedEmployeeCount_ShouldReturnCount() {
-        when(employeeRepository.count("department IS NULL")).thenReturn(5L);
-
-        long count = departmentService.getUnassignedEmployeeCount();
-
-        assertEquals(5L, count);
-        verify(employeeRepository).count("department IS NULL");
+        InOrder inOrder = inOrder(employeeService, departmentRepository);
+        inOrder.verify(employeeService).moveAllEmployees(1L, null);
+        inOrder.verify(departmentRepository).delete(testDepartment);
+        verify(dataVersion).changed(1L);
+        verify(changeFeed).record(argThat(event ->
+                event.getType() == ChangeEventDto.Type.DEPARTMENT_DELETED && event.getId() == 1L));
     }
 }
\ No newline at end of file
@@ -1,11 +1,25 @@
 package com.dedalus.interview.service;
 
+import com.dedalus.interview.dto.ChangeEventDto;
+import com.dedalus.interview.dto.EmployeeCursor;
+import com.dedalus.interview.dto.EmployeeImportResultDto;
+import com.dedalus.interview.dto.EmployeeImportRow;
+import com.dedalus.interview.dto.EmployeeLookupResultDto;
+import com.dedalus.interview.dto.EmployeeReassignmentDto;
+import com.dedalus.interview.dto.EmployeePage;
+import com.dedalus.interview.dto.EmployeeSuggestionDto;
+import com.dedalus.interview.dto.EmployeeSummaryDto;
 import com.dedalus.interview.entity.Department;
 import com.dedalus.interview.entity.Employee;
 import com.dedalus.interview.repository.DepartmentRepository;
 import com.dedalus.interview.repository.EmployeeRepository;
 import jakarta.ws.rs.BadRequestException;
+import jakarta.enterprise.event.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.NotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,9 +27,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,11 +48,30 @@ class EmployeeServiceTest {
     @Mock
     DepartmentRepository departmentRepository;
 
+    @Mock
+    EmployeeSuggestionIndex suggestionIndex;
+
+    @Mock
+    Validator validator;
+
+    @Mock
+    Event<EmployeesReassignedEvent> reassignedEvent;
+
+    @Mock
+    DataVersionService dataVersion;
+
+    @Mock
+    HeadcountService headcount;
+
+    @Mock
+    ChangeFeedService changeFeed;
+
     @InjectMocks
     EmployeeService employeeService;
 
     private Department testDepartment;
     private Employee testEmployee;
+    private EmployeeSummaryDto testSummary;
 
     @BeforeEach
     void setUp() {
@@ -42,18 +80,45 @@ class EmployeeServiceTest {
 
         testEmployee = new Employee("John Doe", "123 Main St", "555-1234", "john@example.com");
         testEmployee.setId(1L);
+
+        testSummary = new EmployeeSummaryDto(1L, "John Doe", "john@example.com", "555-1234", "123 Main St", null, null);
     }
 
     @Test
     void getAllEmployees_ShouldReturnAllEmployees() {
-        List<Employee> employees = Arrays.asList(testEmployee);
-        when(employeeRepository.listAll()).thenReturn(employees);
+        List<EmployeeSummaryDto> employees = Arrays.asList(testSummary);
+        when(employeeRepository.findAllSummaries(null, 0, EmployeeSummaryDto.ALL_FIELDS)).thenReturn(employees);
 
-        List<Employee> result = employeeService.getAllEmployees();
+        List<EmployeeSummaryDto> result = employeeService.getAllEmployees(null, 0, EmployeeSummaryDto.ALL_FIELDS).getItems();
 
         assertEquals(1, result.size());
         assertEquals("John Doe", result.get(0).getFullName());
-        verify(employeeRepository).listAll();
+        assertEquals("Unassigned", result.get(0).getDepartmentName());
+        verify(employeeRepository).findAllSummaries(null, 0, EmployeeSummaryDto.ALL_FIELDS);
+    }
+
+    @Test
+    void lookupEmployees_ShouldKeepRequestOrderAndMarkMissingIds() {
+        employeeService.maxLookupIds = 5;
+        when(employeeRepository.findSummariesByIds(Set.of(1L, 42L))).thenReturn(Map.of(1L, testSummary));
+
+        List<EmployeeLookupResultDto> result = employeeService.lookupEmployees(List.of(42L, 1L, 42L));
+
+        assertEquals(List.of(42L, 1L, 42L), result.stream().map(EmployeeLookupResultDto::getId).toList());
+        assertFalse(result.get(0).isFound());
+        assertNull(result.get(0).getEmployee());
+        assertTrue(result.get(1).isFound());
+        assertSame(testSummary, result.get(1).getEmployee());
+        assertFalse(result.get(2).isFound());
+    }
+
+    @Test
+    void lookupEmployees_WithTooManyIds_ShouldThrowBadRequestException() {
+        employeeService.maxLookupIds = 2;
+
+        assertThrows(BadRequestException.class, () -> employeeService.lookupEmployees(List.of(1L, 2L, 3L)));
+        assertThrows(BadRequestException.class, () -> employeeService.lookupEmployees(List.of()));
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
@@ -81,13 +146,13 @@ class EmployeeServiceTest {
         newEmployee.setDepartment(testDepartment);
 
         when(departmentRepository.findByIdOptional(1L)).thenReturn(Optional.of(testDepartment));
-        when(employeeRepository.existsByEmailExcludingId("jane@example.com", null)).thenReturn(false);
 
         Employee result = employeeService.createEmployee(newEmployee);
 
         assertEquals("Jane Smith", result.getFullName());
         assertEquals(testDepartment, result.getDepartment());
         verify(employeeRepository).persist(newEmployee);
+        verify(headcount).added(1L, 1);
     }
 
     @Test
@@ -117,63 +182,238 @@ class EmployeeServiceTest {
     void createEmployee_WithDuplicateEmail_ShouldThrowBadRequestException() {
         Employee newEmployee = new Employee("Jane Smith", "456 Oak St", "555-5678", "john@example.com");
 
-        when(employeeRepository.existsByEmailExcludingId("john@example.com", null)).thenReturn(true);
+        doThrow(new PersistenceException(new ConstraintViolationException("duplicate key", null,
+                "PUBLIC." + Employee.EMAIL_INDEX.toUpperCase()))).when(employeeRepository).flush();
 
-        assertThrows(BadRequestException.class, () -> {
+        BadRequestException e = assertThrows(BadRequestException.class, () -> {
             employeeService.createEmployee(newEmployee);
         });
+        assertEquals("Employee with email 'john@example.com' already exists", e.getMessage());
+        verify(dataVersion, never()).changed(any());
+        verifyNoInteractions(changeFeed);
+    }
+
+    @Test
+    void createEmployee_WithOtherConstraintViolation_ShouldRethrow() {
+        Employee newEmployee = new Employee("Jane Smith", "456 Oak St", "555-5678", "jane@example.com");
+        PersistenceException failure = new PersistenceException(
+                new ConstraintViolationException("fk violation", null, "fk_employees_department"));
+        doThrow(failure).when(employeeRepository).flush();
+
+        assertSame(failure, assertThrows(PersistenceException.class, () -> employeeService.createEmployee(newEmployee)));
     }
 
     @Test
     void searchEmployeesByName_ShouldReturnMatchingEmployees() {
-        List<Employee> employees = Arrays.asList(testEmployee);
-        when(employeeRepository.findByFullNameContainingIgnoreCase("john")).thenReturn(employees);
+        List<EmployeeSummaryDto> employees = Arrays.asList(testSummary);
+        when(employeeRepository.findSummariesByFullNameContainingIgnoreCase("john", null, 0, EmployeeSummaryDto.ALL_FIELDS)).thenReturn(employees);
 
-        List<Employee> result = employeeService.searchEmployeesByName("john");
+        List<EmployeeSummaryDto> result = employeeService.searchEmployeesByName("john", null, 0, EmployeeSummaryDto.ALL_FIELDS).getItems();
 
         assertEquals(1, result.size());
         assertEquals("John Doe", result.get(0).getFullName());
-        verify(employeeRepository).findByFullNameContainingIgnoreCase("john");
+        verify(employeeRepository).findSummariesByFullNameContainingIgnoreCase("john", null, 0, EmployeeSummaryDto.ALL_FIELDS);
+    }
+
+    @Test
+    void getAllEmployees_WithLimit_ShouldReturnPageAndNextCursor() {
+        EmployeeSummaryDto second = new EmployeeSummaryDto(2L, "Zoe Zed", null, null, null, null, null);
+        EmployeeCursor after = new EmployeeCursor("Adam Ant", 7L);
+        when(employeeRepository.findAllSummaries(after, 2, EmployeeSummaryDto.ALL_FIELDS)).thenReturn(Arrays.asList(testSummary, second));
+
+        EmployeePage page = employeeService.getAllEmployees(after, 1, EmployeeSummaryDto.ALL_FIELDS);
+
+        assertEquals(1, page.getItems().size());
+        EmployeeCursor next = EmployeeCursor.decode(page.getNextCursor());
+        assertEquals("John Doe", next.getFullName());
+        assertEquals(1L, next.getId());
+    }
+
+    @Test
+    void getAllEmployees_OnLastPage_ShouldReturnNoNextCursor() {
+        when(employeeRepository.findAllSummaries(null, 3, EmployeeSummaryDto.ALL_FIELDS)).thenReturn(Arrays.asList(testSummary));
+
+        EmployeePage page = employeeService.getAllEmployees(null, 2, EmployeeSummaryDto.ALL_FIELDS);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void suggestEmployees_ShouldUseInMemoryIndex() {
+        EmployeeSuggestionDto suggestion = new EmployeeSuggestionDto(1L, "John Doe", "john@example.com", null);
+        when(suggestionIndex.suggest("jo", 5)).thenReturn(Arrays.asList(suggestion));
+
+        List<EmployeeSuggestionDto> result = employeeService.suggestEmployees("jo", 5);
+
+        assertEquals(1, result.size());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void exportEmployees_ShouldPassEveryStreamedRowToAction() {
+        EmployeeSummaryDto second = new EmployeeSummaryDto(2L, "Zoe Zed", null, null, null, null, null);
+        when(employeeRepository.streamAllSummaries(anyInt())).thenReturn(Stream.of(testSummary, second));
+
+        List<EmployeeSummaryDto> exported = new ArrayList<>();
+        employeeService.exportEmployees(exported::add);
+
+        assertEquals(Arrays.asList(testSummary, second), exported);
+    }
+
+    @Test
+    void importEmployees_ShouldPersistValidRowsAndReportInvalidOnes() {
+        EmployeeSummaryDto valid = new EmployeeSummaryDto(null, "Jane Smith", "jane@example.com", null, null, 1L, null);
+        EmployeeSummaryDto existing = new EmployeeSummaryDto(null, "John Doe", "john@example.com", null, null, null, null);
+        EmployeeSummaryDto unknownDepartment = new EmployeeSummaryDto(null, "Bob Ray", "bob@example.com", null, null, 9L, null);
+        EmployeeSummaryDto repeated = new EmployeeSummaryDto(null, "Jane Twin", "jane@example.com", null, null, null, null);
+        List<EmployeeImportRow> rows = Arrays.asList(
+                EmployeeImportRow.of(2, valid),
+                EmployeeImportRow.of(3, existing),
+                EmployeeImportRow.of(4, unknownDepartment),
+                EmployeeImportRow.of(5, repeated),
+                EmployeeImportRow.malformed(6, "Malformed JSON"));
+
+        when(departmentRepository.findAllIds()).thenReturn(Set.of(1L));
+        when(departmentRepository.getReference(1L)).thenReturn(testDepartment);
+        when(employeeRepository.findExistingEmails(Set.of("jane@example.com", "john@example.com")))
+                .thenReturn(Set.of("john@example.com"));
+
+        List<EmployeeImportResultDto.RowError> errors = employeeService.importEmployees(rows);
+
+        assertEquals(Arrays.asList(3L, 4L, 5L, 6L), errors.stream().map(EmployeeImportResultDto.RowError::getLine).toList());
+        verify(employeeRepository).persist(argThat((Iterable<Employee> persisted) -> {
+            List<Employee> list = new ArrayList<>();
+            persisted.forEach(list::add);
+            return list.size() == 1
+                    && list.get(0).getFullName().equals("Jane Smith")
+                    && list.get(0).getDepartment() == testDepartment;
+        }));
+        verify(headcount).adjust(Map.of(1L, 1));
+        verifyNoMoreInteractions(headcount);
+    }
+
+    @Test
+    void importEmployees_WhenAnEmailIsTakenConcurrently_ShouldRejectTheChunkRows() {
+        List<EmployeeImportRow> rows = Arrays.asList(
+                EmployeeImportRow.of(2, new EmployeeSummaryDto(null, "Jane Smith", "jane@example.com", null, null, null, null)),
+                EmployeeImportRow.of(3, new EmployeeSummaryDto(null, "Zoe Zed", "zoe@example.com", null, null, null, null)),
+                EmployeeImportRow.malformed(4, "Malformed JSON"));
+        when(departmentRepository.findAllIds()).thenReturn(Set.of());
+        when(employeeRepository.findExistingEmails(Set.of("jane@example.com", "zoe@example.com"))).thenReturn(Set.of());
+        doThrow(new PersistenceException(new ConstraintViolationException("duplicate key", null,
+                "PUBLIC." + Employee.EMAIL_INDEX.toUpperCase()))).when(employeeRepository).flush();
+
+        List<EmployeeImportResultDto.RowError> errors = employeeService.importEmployees(rows);
+
+        assertEquals(Arrays.asList(2L, 3L, 4L), errors.stream().map(EmployeeImportResultDto.RowError::getLine).toList());
+        assertTrue(errors.get(0).getMessage().startsWith("Chunk rejected"));
+        verifyNoInteractions(headcount, changeFeed, dataVersion);
     }
 
     @Test
     void getEmployeesByDepartmentId_ShouldReturnEmployeesInDepartment() {
-        List<Employee> employees = Arrays.asList(testEmployee);
-        when(employeeRepository.findByDepartmentId(1L)).thenReturn(employees);
+        List<EmployeeSummaryDto> employees = Arrays.asList(testSummary);
+        when(employeeRepository.findSummariesByDepartmentId(1L, null, 0, EmployeeSummaryDto.ALL_FIELDS)).thenReturn(employees);
 
-        List<Employee> result = employeeService.getEmployeesByDepartmentId(1L);
+        List<EmployeeSummaryDto> result = employeeService.getEmployeesByDepartmentId(1L, null, 0, EmployeeSummaryDto.ALL_FIELDS).getItems();
 
         assertEquals(1, result.size());
-        verify(employeeRepository).findByDepartmentId(1L);
+        verify(employeeRepository).findSummariesByDepartmentId(1L, null, 0, EmployeeSummaryDto.ALL_FIELDS);
     }
 
     @Test
     void getUnassignedEmployees_ShouldReturnUnassignedEmployees() {
-        List<Employee> employees = Arrays.asList(testEmployee);
-        when(employeeRepository.findUnassigned()).thenReturn(employees);
+        List<EmployeeSummaryDto> employees = Arrays.asList(testSummary);
+        when(employeeRepository.findSummariesByDepartmentId(null, null, 0, EmployeeSummaryDto.ALL_FIELDS)).thenReturn(employees);
 
-        List<Employee> result = employeeService.getUnassignedEmployees();
+        List<EmployeeSummaryDto> result = employeeService.getUnassignedEmployees(null, 0, EmployeeSummaryDto.ALL_FIELDS).getItems();
 
         assertEquals(1, result.size());
-        verify(employeeRepository).findUnassigned();
+        verify(employeeRepository).findSummariesByDepartmentId(null, null, 0, EmployeeSummaryDto.ALL_FIELDS);
     }
 
     @Test
     void assignEmployeeToDepartment_ShouldAssignEmployee() {
-        when(employeeRepository.findByIdOptional(1L)).thenReturn(Optional.of(testEmployee));
+        when(employeeRepository.findByIdOptional(1L, LockModeType.PESSIMISTIC_WRITE)).thenReturn(Optional.of(testEmployee));
         when(departmentRepository.findByIdOptional(1L)).thenReturn(Optional.of(testDepartment));
 
         Employee result = employeeService.assignEmployeeToDepartment(1L, 1L);
 
         assertEquals(testDepartment, result.getDepartment());
+        verify(headcount).moved(null, 1L, 1);
+        verify(dataVersion).changed(null, 1L);
+        verify(changeFeed).record(argThat(event -> event.getType() == ChangeEventDto.Type.EMPLOYEE_ASSIGNED
+                && event.getId() == 1L && event.getFromDepartmentId() == null && event.getDepartmentId() == 1L));
+    }
+
+    @Test
+    void reassignEmployees_ByIds_ShouldUseSetBasedUpdate() {
+        List<Long> ids = Arrays.asList(1L, 2L, 3L);
+        when(departmentRepository.findByIdOptional(1L)).thenReturn(Optional.of(testDepartment));
+        Map<Long, Integer> sources = new HashMap<>();
+        sources.put(null, 2);
+        sources.put(1L, 1);
+        when(employeeRepository.lockDepartmentCounts(ids)).thenReturn(sources);
+        when(employeeRepository.reassign(ids, testDepartment)).thenReturn(3);
+
+        int updated = employeeService.reassignEmployees(new EmployeeReassignmentDto(ids, null), 1L);
+
+        assertEquals(3, updated);
+        verify(headcount).movedAll(sources, 1L);
+        verify(employeeRepository, never()).findByIdOptional(any());
+        verify(reassignedEvent).fire(argThat(event -> ids.equals(event.getEmployeeIds()) && event.getToDepartmentId() == 1L));
+    }
+
+    @Test
+    void reassignEmployees_WithRepeatedIds_ShouldMoveEachEmployeeOnce() {
+        List<Long> ids = Arrays.asList(1L, 2L);
+        when(employeeRepository.lockDepartmentCounts(ids)).thenReturn(Map.of(1L, 2));
+        when(employeeRepository.reassign(ids, null)).thenReturn(2);
+
+        int updated = employeeService.reassignEmployees(Arrays.asList(1L, 2L, 1L), null);
+
+        assertEquals(2, updated);
+        verify(employeeRepository).lockDepartmentCounts(ids);
+        verify(employeeRepository).reassign(ids, null);
+        verify(headcount).movedAll(Map.of(1L, 2), null);
+    }
+
+    @Test
+    void reassignEmployees_FromDepartment_ShouldMoveAllToUnassigned() {
+        when(employeeRepository.reassignDepartment(2L, null)).thenReturn(5);
+
+        int updated = employeeService.reassignEmployees(new EmployeeReassignmentDto(null, 2L), null);
+
+        assertEquals(5, updated);
+        verify(headcount).moved(2L, null, 5);
+        verify(reassignedEvent).fire(argThat(event -> event.getFromDepartmentId() == 2L && event.getToDepartmentId() == null));
+    }
+
+    @Test
+    void reassignEmployees_WithUnknownDepartment_ShouldThrowNotFoundException() {
+        when(departmentRepository.findByIdOptional(999L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> {
+            employeeService.reassignEmployees(new EmployeeReassignmentDto(Arrays.asList(1L), null), 999L);
+        });
+    }
+
+    @Test
+    void reassignEmployees_WithoutSelection_ShouldThrowBadRequestException() {
+        assertThrows(BadRequestException.class, () -> {
+            employeeService.reassignEmployees(new EmployeeReassignmentDto(null, null), 1L);
+        });
     }
 
     @Test
     void deleteEmployee_ShouldDeleteEmployee() {
-        when(employeeRepository.findByIdOptional(1L)).thenReturn(Optional.of(testEmployee));
+        testEmployee.setDepartment(testDepartment);
+        when(employeeRepository.findByIdOptional(1L, LockModeType.PESSIMISTIC_WRITE)).thenReturn(Optional.of(testEmployee));
 
         employeeService.deleteEmployee(1L);
 
         verify(employeeRepository).delete(testEmployee);
+        verify(headcount).removed(1L, 1);
     }
 }
\ No newline at end of file
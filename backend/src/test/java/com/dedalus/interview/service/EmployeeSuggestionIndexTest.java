@@ -0,0 +1,124 @@
+package com.dedalus.interview.service;
+
+import com.dedalus.interview.dto.EmployeeSuggestionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeSuggestionIndexTest {
+
+    private EmployeeSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSuggestionIndex();
+        index.rebuild(Arrays.asList(
+                new EmployeeSuggestionDto(1L, "John Doe", "john.doe@company.com", 1L),
+                new EmployeeSuggestionDto(2L, "Jane Smith", "jsmith@company.com", 1L),
+                new EmployeeSuggestionDto(3L, "Bob Johnson", "bob.johnson@company.com", 2L)));
+    }
+
+    @Test
+    void suggest_ShouldMatchNameTokenPrefixesIgnoringCase() {
+        assertEquals(Arrays.asList(1L, 3L), ids(index.suggest("JOH", 10)));
+    }
+
+    @Test
+    void suggest_ShouldMatchEmailLocalPart() {
+        assertEquals(Arrays.asList(2L), ids(index.suggest("jsm", 10)));
+    }
+
+    @Test
+    void suggest_WithSeveralTokens_ShouldRequireAllOfThem() {
+        assertEquals(Arrays.asList(1L), ids(index.suggest("john d", 10)));
+    }
+
+    @Test
+    void suggest_ShouldRespectLimit() {
+        assertEquals(1, index.suggest("j", 1).size());
+    }
+
+    @Test
+    void upsert_ShouldReplacePreviousTokens() {
+        index.upsert(new EmployeeSuggestionDto(1L, "Johnny Cash", "jcash@company.com", null));
+
+        assertTrue(index.suggest("doe", 10).isEmpty());
+        assertEquals(Arrays.asList(1L), ids(index.suggest("cash", 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void remove_ShouldDropEmployee() {
+        index.remove(3L);
+
+        assertEquals(Arrays.asList(1L), ids(index.suggest("joh", 10)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void upsertAndRemove_SharingTokens_ShouldNotLoseTheUpsertedEmployee() throws Exception {
+        // Many shared tokens per round widen the window in which removal of the last id races the add
+        String sharedTokens = IntStream.range(0, 200).mapToObj(i -> "shared" + i).collect(Collectors.joining(" "));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 2000; round++) {
+                index.rebuild(List.of(new EmployeeSuggestionDto(11L, sharedTokens, null, null)));
+                CountDownLatch start = new CountDownLatch(1);
+                CompletableFuture<Void> upsert = CompletableFuture.runAsync(() -> {
+                    await(start);
+                    index.upsert(new EmployeeSuggestionDto(10L, sharedTokens, null, null));
+                }, executor);
+                CompletableFuture<Void> remove = CompletableFuture.runAsync(() -> {
+                    await(start);
+                    index.remove(11L);
+                }, executor);
+                start.countDown();
+                CompletableFuture.allOf(upsert, remove).get();
+
+                for (int i = 0; i < 200; i++) {
+                    assertEquals(Arrays.asList(10L), ids(index.suggest("shared" + i, 10)), "round " + round + ", token " + i);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void updatesAndRemovals_ShouldNotGrowTheTokenMap() {
+        int initialTokens = index.tokenCount();
+
+        for (int i = 0; i < 1000; i++) {
+            index.upsert(new EmployeeSuggestionDto(1L, "Renamed" + i + " Doe", "renamed" + i + "@company.com", 1L));
+            index.upsert(new EmployeeSuggestionDto(100L + i, "Temp" + i + " Worker", "temp" + i + "@company.com", null));
+            index.remove(100L + i);
+        }
+        index.upsert(new EmployeeSuggestionDto(1L, "John Doe", "john.doe@company.com", 1L));
+
+        assertEquals(initialTokens, index.tokenCount());
+        assertEquals(Arrays.asList(1L, 3L), ids(index.suggest("joh", 10)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Long> ids(List<EmployeeSuggestionDto> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionDto::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,190 @@
+package com.dedalus.interview.service;
+
+import com.dedalus.interview.dto.DepartmentSummaryDto;
+import com.dedalus.interview.dto.EmployeeReassignmentDto;
+import com.dedalus.interview.entity.Department;
+import com.dedalus.interview.entity.Employee;
+import com.dedalus.interview.repository.DepartmentRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@QuarkusTest
+class HeadcountServiceTest {
+
+    @Inject
+    HeadcountService headcount;
+
+    @Inject
+    EmployeeService employeeService;
+
+    @Inject
+    DepartmentService departmentService;
+
+    @Inject
+    DepartmentRepository departmentRepository;
+
+    @Test
+    void writes_ShouldKeepHeadcountsExact() {
+        Department department = departmentService.createDepartment(new Department("Headcount Check"));
+        Long engineeringId = departmentService.getDepartmentByName("Engineering").getId();
+
+        Employee first = employeeService.createEmployee(employee("Head Count", "head.count@company.com", department.getId()));
+        Employee second = employeeService.createEmployee(employee("Tail Count", "tail.count@company.com", null));
+        assertEquals(1, count(department.getId()));
+
+        employeeService.assignEmployeeToDepartment(second.getId(), department.getId());
+        employeeService.reassignEmployees(new EmployeeReassignmentDto(List.of(first.getId()), null), engineeringId);
+        assertEquals(1, count(department.getId()));
+
+        departmentService.deleteDepartment(department.getId());
+        employeeService.deleteEmployee(first.getId());
+        employeeService.deleteEmployee(second.getId());
+
+        assertEquals(0, headcount.reconcile());
+    }
+
+    @Test
+    void reassigningAnIdRepeatedAcrossChunks_ShouldCountItOnce() {
+        Long engineeringId = departmentService.getDepartmentByName("Engineering").getId();
+        Employee employee = employeeService.createEmployee(employee("Twice Listed", "twice.listed@company.com", null));
+        List<Long> ids = new ArrayList<>();
+        ids.add(employee.getId());
+        LongStream.rangeClosed(1, 1000).forEach(missing -> ids.add(-missing));
+        ids.add(employee.getId());
+
+        assertEquals(1, employeeService.reassignEmployees(ids, engineeringId));
+        assertEquals(0, headcount.reconcile());
+        employeeService.deleteEmployee(employee.getId());
+    }
+
+    @Test
+    void movedAll_ShouldApplyNetDeltasInDepartmentIdOrderWithUnassignedLast() {
+        HeadcountService ordered = new HeadcountService();
+        ordered.departmentRepository = mock(DepartmentRepository.class);
+        Map<Long, Integer> sources = new HashMap<>();
+        sources.put(null, 2);
+        sources.put(9L, 1);
+        sources.put(3L, 4);
+
+        ordered.movedAll(sources, 5L);
+
+        InOrder inOrder = inOrder(ordered.departmentRepository);
+        inOrder.verify(ordered.departmentRepository).adjustEmployeeCount(3L, -4);
+        inOrder.verify(ordered.departmentRepository).adjustEmployeeCount(5L, 7);
+        inOrder.verify(ordered.departmentRepository).adjustEmployeeCount(9L, -1);
+        inOrder.verify(ordered.departmentRepository).adjustEmployeeCount(null, -2);
+        verifyNoMoreInteractions(ordered.departmentRepository);
+    }
+
+    @Test
+    void oppositeConcurrentMoves_ShouldNotDeadlock() throws Exception {
+        Long engineeringId = departmentService.getDepartmentByName("Engineering").getId();
+        Long financeId = departmentService.getDepartmentByName("Finance").getId();
+        Employee east = employeeService.createEmployee(employee("East Bound", "east.bound@company.com", engineeringId));
+        Employee west = employeeService.createEmployee(employee("West Bound", "west.bound@company.com", financeId));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 20; i++) {
+                boolean forth = i % 2 == 0;
+                Future<?> first = executor.submit(() -> employeeService.assignEmployeeToDepartment(east.getId(),
+                        forth ? financeId : engineeringId));
+                Future<?> second = executor.submit(() -> employeeService.assignEmployeeToDepartment(west.getId(),
+                        forth ? engineeringId : financeId));
+                first.get();
+                second.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, headcount.reconcile());
+        employeeService.deleteEmployee(east.getId());
+        employeeService.deleteEmployee(west.getId());
+    }
+
+    @Test
+    void concurrentMovesOfOneEmployee_ShouldNotDriftHeadcounts() throws Exception {
+        Long engineeringId = departmentService.getDepartmentByName("Engineering").getId();
+        Long financeId = departmentService.getDepartmentByName("Finance").getId();
+        Employee employee = employeeService.createEmployee(employee("Ping Pong", "ping.pong@company.com", null));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> moves = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                Long target = i % 3 == 0 ? null : i % 3 == 1 ? engineeringId : financeId;
+                moves.add(executor.submit(() -> employeeService.assignEmployeeToDepartment(employee.getId(), target)));
+            }
+            for (Future<?> move : moves) {
+                move.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, headcount.reconcile());
+        employeeService.deleteEmployee(employee.getId());
+    }
+
+    @Test
+    void reconcile_ShouldRepairDriftedCounts() {
+        Long engineeringId = departmentService.getDepartmentByName("Engineering").getId();
+        int expected = count(engineeringId);
+        QuarkusTransaction.requiringNew().run(() -> {
+            departmentRepository.adjustEmployeeCount(engineeringId, 7);
+            departmentRepository.adjustEmployeeCount(null, -1);
+        });
+
+        assertEquals(2, headcount.reconcile());
+        assertEquals(expected, count(engineeringId));
+        assertEquals(0, headcount.reconcile());
+    }
+
+    @Test
+    void reconcile_ShouldCreateMissingHeadcounts() {
+        Department department = QuarkusTransaction.requiringNew().call(() -> {
+            Department written = new Department("Written Directly");
+            departmentRepository.persist(written);
+            return written;
+        });
+
+        assertEquals(1, headcount.reconcile());
+        assertEquals(0, count(department.getId()));
+        assertEquals(0, headcount.reconcile());
+        departmentService.deleteDepartment(department.getId());
+    }
+
+    private int count(Long departmentId) {
+        return departmentService.getDepartmentSummaries().stream()
+                .filter(summary -> departmentId.equals(summary.getId()))
+                .mapToInt(DepartmentSummaryDto::getEmployeeCount)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Employee employee(String fullName, String email, Long departmentId) {
+        Employee employee = new Employee(fullName, null, null, email);
+        if (departmentId != null) {
+            Department department = new Department();
+            department.setId(departmentId);
+            employee.setDepartment(department);
+        }
+        return employee;
+    }
+}